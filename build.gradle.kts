@@ -121,39 +121,162 @@ val runFunctionalTests = tasks.register<JavaExec>("runFunctionalTests") {
     args = listOf(jsonSchemaTestSuiteDir.get().asFile.absolutePath)
 }
 
-tasks.register<JavaExec>("runValidateBenchmark") {
+val runBenchmarks = tasks.register("runBenchmarks")
+val runBenchmarkSmokeTest = tasks.register("runBenchmarkSmokeTest")
+val runExtraBenchmarks = tasks.register("runExtraBenchmarks")
+val runExtraBenchmarkSmokeTest = tasks.register("runExtraBenchmarkSmokeTest")
+
+registerBenchmarkTasks("Validate", "JsonValidateBenchmark", true, extra = false)
+registerBenchmarkTasks("ValidateBytes", "JsonValidateBytesBenchmark", true)
+registerBenchmarkTasks("ValidatePhase", "JsonValidatePhaseBenchmark", true)
+registerBenchmarkTasks("ValidateBatch", "JsonValidateBatchBenchmark", false)
+registerBenchmarkTasks("ValidateSampleTime", "JsonValidateSampleTimeBenchmark", true)
+registerBenchmarkTasks("ValidateRegex", "JsonValidateRegexBenchmark", false)
+registerBenchmarkTasks(
+    "ValidateFormat",
+    "JsonValidateFormatBenchmark",
+    true,
+    listOf(),
+    // Only the formats of most interest:
+    listOf("-p", "format=date-time,email")
+)
+registerBenchmarkTasks(
+    "ValidateKeyword",
+    "JsonValidateKeywordBenchmark",
+    true,
+    listOf(),
+    // Only a single keyword:
+    listOf("-p", "keyword=ref")
+)
+registerBenchmarkTasks("Prepare", "JsonPrepareBenchmark", true)
+registerBenchmarkTasks(
+    "SchemaComplexity",
+    "JsonSchemaComplexityBenchmark",
+    false,
+    listOf(),
+    // Only a single complexity:
+    listOf("-p", "complexity=4")
+)
+registerBenchmarkTasks(
+    "SchemaComplexityPrepare",
+    "JsonSchemaComplexityPrepareBenchmark",
+    false,
+    listOf(),
+    listOf("-p", "complexity=4")
+)
+// Cold start needs a fresh JVM, even when smoke testing:
+registerBenchmarkTasks("ColdStart", "JsonColdStartBenchmark", false, smokeTestForks = 1)
+registerBenchmarkTasks(
+    "ValidateManyThreads",
+    "JsonValidateManyThreadsBenchmark",
+    true,
+    listOf("-prof", "org.creekservice.kafka.test.perf.performance.util.LargeDocumentProfiler"),
+    // Only the fewest threads:
+    listOf("-p", "threads=100")
+)
+
+// JFR adds overhead of its own, so contention is profiled in a separate run, not the scored one:
+tasks.register<JavaExec>("profileValidateManyThreadsContention") {
+    description = "Record contended monitor entries while running JsonValidateManyThreadsBenchmark"
     dependsOn(pullTask)
     classpath = sourceSets.main.get().runtimeClasspath
-    configureBenchmarkTask("JsonValidateBenchmark", false)
-}
-
-tasks.register<JavaExec>("runSerdeBenchmark") {
-    classpath = sourceSets.main.get().runtimeClasspath
-    configureBenchmarkTask("JsonSerdeBenchmark", false)
-}
-
-tasks.register("runBenchmarks") {
-    dependsOn("runValidateBenchmark", "runSerdeBenchmark")
-}
-
-val runValidateBenchmarkSmokeTest = tasks.register<JavaExec>("runValidateBenchmarkSmokeTest") {
-    dependsOn(pullTask)
-    classpath = sourceSets.main.get().runtimeClasspath
-    configureBenchmarkTask("JsonValidateBenchmark", true)
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("profile/JsonValidateManyThreadsBenchmark.txt")
+    outputs.file(resultFile)
+    doFirst { resultFile.get().asFile.parentFile.mkdirs() }
+
+    args(listOf(
+        "JsonValidateManyThreadsBenchmark",
+        "-prof", "org.creekservice.kafka.test.perf.performance.util.ThreadContentionProfiler",
+        "-rf", "text",
+        "-rff", resultFile.get().asFile.absolutePath
+    ))
 }
+registerBenchmarkTasks("Serde", "JsonSerdeBenchmark", false, extra = false)
+registerBenchmarkTasks("SerdeDirectBuffer", "JsonSerdeDirectBufferBenchmark", false)
+// Run across a range of thread counts by PerformanceMain, except for the smoke test:
+registerBenchmarkTasks("SerdeScaling", "JsonSerdeScalingBenchmark", false)
+registerBenchmarkTasks(
+    "SerdePayloadSize",
+    "JsonSerdePayloadSizeBenchmark",
+    false,
+    listOf(),
+    // Only the smallest payload:
+    listOf("-p", "payloadBytes=200")
+)
+registerBenchmarkTasks("SerdeSampleTime", "JsonSerdeSampleTimeBenchmark", false)
+registerBenchmarkTasks("ModelZoo", "JsonModelZooBenchmark", false)
+registerBenchmarkTasks("KafkaSerde", "JsonKafkaSerdeBenchmark", false)
+registerBenchmarkTasks(
+    "ValidatePooling",
+    "JsonValidatePoolingBenchmark",
+    false,
+    listOf("-prof", "org.creekservice.kafka.test.perf.performance.util.LargeDocumentProfiler")
+)
+registerBenchmarkTasks(
+    "LargeDocument",
+    "JsonLargeDocumentBenchmark",
+    false,
+    listOf("-prof", "org.creekservice.kafka.test.perf.performance.util.LargeDocumentProfiler"),
+    // Only the smallest document:
+    listOf("-p", "documentSizeMb=1")
+)
+
+/**
+ * Register tasks to run a benchmark class: `run<name>Benchmark` and `run<name>BenchmarkSmokeTest`.
+ *
+ * <p>The tasks are added to the `runBenchmarks` and `runBenchmarkSmokeTest` tasks, respectively,
+ * or, if `extra`, to the opt-in `runExtraBenchmarks` and `runExtraBenchmarkSmokeTest` tasks, which
+ * keeps `check` to the smoke tests of the original benchmarks.
+ *
+ * <p>`benchmarkArgs` are passed to JMH by both tasks, `smokeTestArgs` only by the smoke test.
+ * The smoke test runs in-process, unless `smokeTestForks` is set.
+ */
+fun registerBenchmarkTasks(
+    name: String,
+    benchmarkClass: String,
+    requiresTestSuite: Boolean,
+    benchmarkArgs: List<String> = listOf(),
+    smokeTestArgs: List<String> = listOf(),
+    smokeTestForks: Int = 0,
+    extra: Boolean = true
+) {
+    val runTask = tasks.register<JavaExec>("run${name}Benchmark") {
+        if (requiresTestSuite) {
+            dependsOn(pullTask)
+        }
+        classpath = sourceSets.main.get().runtimeClasspath
+        configureBenchmarkTask(benchmarkClass, false)
+        args(benchmarkArgs)
+    }
 
-val runSerdeBenchmarkSmokeTest = tasks.register<JavaExec>("runSerdeBenchmarkSmokeTest") {
-    classpath = sourceSets.main.get().runtimeClasspath
-    configureBenchmarkTask("JsonSerdeBenchmark", true)
-}
+    val smokeTestTask = tasks.register<JavaExec>("run${name}BenchmarkSmokeTest") {
+        if (requiresTestSuite) {
+            dependsOn(pullTask)
+        }
+        classpath = sourceSets.main.get().runtimeClasspath
+        configureBenchmarkTask(benchmarkClass, true, smokeTestForks)
+        args(benchmarkArgs + smokeTestArgs)
+    }
 
-val runBenchmarkSmokeTest = tasks.register("runBenchmarkSmokeTest") {
-    dependsOn(runValidateBenchmarkSmokeTest, runSerdeBenchmarkSmokeTest)
+    if (extra) {
+        runExtraBenchmarks.configure { dependsOn(runTask) }
+        runExtraBenchmarkSmokeTest.configure { dependsOn(smokeTestTask) }
+    } else {
+        runBenchmarks.configure { dependsOn(runTask) }
+        runBenchmarkSmokeTest.configure { dependsOn(smokeTestTask) }
+    }
 }
 
-fun JavaExec.configureBenchmarkTask(benchmarkClass: String, smokeTest: Boolean) {
+fun JavaExec.configureBenchmarkTask(benchmarkClass: String, smokeTest: Boolean, smokeTestForks: Int = 0) {
     mainClass.set("org.creekservice.kafka.test.perf.PerformanceMain")
 
+    if (!smokeTest) {
+        // Smoke test results are not representative, so are not recorded in the history:
+        systemProperty("recordHistory", "true")
+    }
+
     outputs.file(file("docs/_includes/$benchmarkClass.json"))
     outputs.file(file("docs/_includes/$benchmarkClass.md"))
 
@@ -174,8 +297,8 @@ fun JavaExec.configureBenchmarkTask(benchmarkClass: String, smokeTest: Boolean)
             "-t", "1",
             // Running for 1 second
             "-r", "1s",
-            // With forking disabled, i.e. in-process
-            "-f", "0"
+            // With forking disabled, i.e. in-process, by default
+            "-f", smokeTestForks.toString()
         ))
     }
 }
@@ -185,13 +308,39 @@ val extractImplementations = tasks.register<JavaExec>("extractImplementations")
     mainClass.set("org.creekservice.kafka.test.perf.ImplementationsMain")
 }
 
+val analyseImplementations = tasks.register<JavaExec>("analyseImplementations") {
+    description = "Extract implementation info, verifying thread safety and measuring retained heap"
+    // Test suite is used as the corpus:
+    dependsOn(pullTask)
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.creekservice.kafka.test.perf.ImplementationsMain")
+    args = listOf(jsonSchemaTestSuiteDir.get().asFile.absolutePath)
+}
+
+tasks.register<JavaExec>("checkBenchmarkRegressions") {
+    description = "Check the benchmark result history for regressions between implementation versions"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.creekservice.kafka.test.perf.RegressionCheckMain")
+}
+
+tasks.register<JavaExec>("diffBenchmarks") {
+    description = "Compare two JMH JSON result files, e.g. --args=\"before.json after.json\""
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.creekservice.kafka.test.perf.BenchmarkDiffMain")
+}
+
 tasks.check {
     dependsOn(runFunctionalTests, runBenchmarkSmokeTest, extractImplementations)
 }
 
 tasks.register("buildTestIncludes") {
     description = "Build include files needed to generate the Jekyll website"
-    dependsOn(runFunctionalTests, runBenchmarkSmokeTest, extractImplementations)
+    dependsOn(
+        runFunctionalTests,
+        runBenchmarkSmokeTest,
+        runExtraBenchmarkSmokeTest,
+        analyseImplementations
+    )
 }
 
 // Dummy / empty tasks required to allow the repo to use the same standard GitHub workflows as other Creek repos:
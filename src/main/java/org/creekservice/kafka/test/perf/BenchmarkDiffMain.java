@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.creekservice.kafka.test.perf.performance.util.BenchmarkDiff;
+
+/**
+ * Entry point for comparing two JMH JSON result files, e.g. from runs before and after a change.
+ *
+ * <p>Invoke with the path to the baseline result file, the path to the current result file and,
+ * optionally, the directory to write {@code benchmark-diff.md} and {@code benchmark-diff.json} to.
+ * The markdown is also written to standard out.
+ */
+public final class BenchmarkDiffMain {
+
+    private static final Path DEFAULT_OUTPUT_DIR = Paths.get("build/benchmark-diff");
+
+    private BenchmarkDiffMain() {}
+
+    public static void main(final String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException(
+                    "Invoke with the paths to the baseline and current JMH JSON result files and,"
+                            + " optionally, the output directory.");
+        }
+
+        final Path outputDir = args.length == 3 ? Paths.get(args[2]) : DEFAULT_OUTPUT_DIR;
+
+        final List<BenchmarkDiff.Change> changes =
+                new BenchmarkDiff().diff(Paths.get(args[0]), Paths.get(args[1]), outputDir);
+
+        System.out.println(BenchmarkDiff.toMarkdown(changes));
+    }
+}
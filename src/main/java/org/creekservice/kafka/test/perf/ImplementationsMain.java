@@ -18,23 +18,97 @@ package org.creekservice.kafka.test.perf;
 
 import static org.creekservice.kafka.test.perf.ProjectPaths.INCLUDES_ROOT;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
 import org.creekservice.kafka.test.perf.implementations.Implementations;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite;
+import org.creekservice.kafka.test.perf.testsuite.RetainedHeapMeter;
+import org.creekservice.kafka.test.perf.testsuite.TestSuiteLoader;
+import org.creekservice.kafka.test.perf.testsuite.ThreadSafetyVerifier;
 import org.creekservice.kafka.test.perf.util.ImplsJsonFormatter;
+import org.creekservice.kafka.test.perf.util.Logging;
 
-/** Main entry point for getting information about the implementations under test */
+/**
+ * Main entry point for getting information about the implementations under test
+ *
+ * <p>If invoked with the path to the root directory containing the JSON test suite, the thread
+ * safety of each implementation is also verified, and the heap retained by its prepared validators
+ * measured, using the test suite as the corpus.
+ */
 public final class ImplementationsMain {
 
+    static {
+        Logging.disable();
+    }
+
     private static final Path JSON_IMPLS = INCLUDES_ROOT.resolve("implementations.json");
 
+    private static final int STRESS_THREADS =
+            Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int STRESS_ITERATIONS = 5;
+
     private ImplementationsMain() {}
 
     public static void main(final String[] args) throws IOException {
+        if (args.length > 1) {
+            throw new IllegalArgumentException(
+                    "Invoke with no arguments, or the path to the root directory containing"
+                            + " the JSON test suite from"
+                            + " https://github.com/json-schema-org/JSON-Schema-Test-Suite.");
+        }
+
+        final List<Implementation> impls = Implementations.all();
+        final Optional<JsonSchemaTestSuite> testSuite =
+                args.length == 0 ? Optional.empty() : Optional.of(loadTestSuite(args[0]));
+
+        final Map<Implementation, RetainedHeapMeter.Measurement> footprints =
+                testSuite.map(suite -> measureFootprints(impls, suite)).orElse(Map.of());
+        final Map<Implementation, ThreadSafetyVerifier.Outcome> threadSafety =
+                testSuite.map(suite -> verifyThreadSafety(impls, suite)).orElse(Map.of());
+
         Files.createDirectories(INCLUDES_ROOT);
-        final String json = ImplsJsonFormatter.implDetailsAsJson(Implementations.all());
+        final String json = ImplsJsonFormatter.implDetailsAsJson(impls, threadSafety, footprints);
         Files.write(JSON_IMPLS, json.getBytes(StandardCharsets.UTF_8));
     }
+
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private static JsonSchemaTestSuite loadTestSuite(final String testSuiteDir) {
+        return new TestSuiteLoader(path -> true).load(Paths.get(testSuiteDir));
+    }
+
+    private static Map<Implementation, RetainedHeapMeter.Measurement> measureFootprints(
+            final List<Implementation> impls, final JsonSchemaTestSuite testSuite) {
+        final RetainedHeapMeter meter = new RetainedHeapMeter(testSuite);
+
+        final Map<Implementation, RetainedHeapMeter.Measurement> results = new LinkedHashMap<>();
+        for (final Implementation impl : impls) {
+            final RetainedHeapMeter.Measurement footprint = meter.measure(impl);
+            System.out.println(impl.metadata().shortName() + " retained heap: " + footprint);
+            results.put(impl, footprint);
+        }
+        return results;
+    }
+
+    private static Map<Implementation, ThreadSafetyVerifier.Outcome> verifyThreadSafety(
+            final List<Implementation> impls, final JsonSchemaTestSuite testSuite) {
+        final ThreadSafetyVerifier verifier =
+                new ThreadSafetyVerifier(testSuite, STRESS_THREADS, STRESS_ITERATIONS);
+
+        final Map<Implementation, ThreadSafetyVerifier.Outcome> results = new LinkedHashMap<>();
+        for (final Implementation impl : impls) {
+            final ThreadSafetyVerifier.Outcome outcome = verifier.verify(impl);
+            System.out.println(impl.metadata().shortName() + " thread safety: " + outcome);
+            results.put(impl, outcome);
+        }
+        return results;
+    }
 }
@@ -16,20 +16,38 @@
 
 package org.creekservice.kafka.test.perf;
 
+import static org.creekservice.kafka.test.perf.ProjectPaths.HISTORY_ROOT;
 import static org.creekservice.kafka.test.perf.ProjectPaths.INCLUDES_ROOT;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.creekservice.kafka.test.perf.performance.util.ColdStartAnalysis;
 import org.creekservice.kafka.test.perf.performance.util.JsonToMarkdownConvertor;
 import org.creekservice.kafka.test.perf.performance.util.PerformanceDataValidator;
+import org.creekservice.kafka.test.perf.performance.util.ResultHistory;
+import org.creekservice.kafka.test.perf.performance.util.ThreadSweep;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.runner.options.CommandLineOptionException;
 import org.openjdk.jmh.runner.options.CommandLineOptions;
 
 /** Entry point for running the performance benchmarks. */
 public final class PerformanceMain {
 
+    /**
+     * System property that, when {@code true}, causes results to be appended to the result history.
+     *
+     * <p>Set for full benchmark runs, but not smoke tests, whose results are not representative.
+     */
+    private static final String RECORD_HISTORY = "recordHistory";
+
+    private static final String PERFORMANCE_PACKAGE =
+            "org.creekservice.kafka.test.perf.performance.";
+
     private PerformanceMain() {}
 
     public static void main(final String[] suppliedArgs) throws Exception {
@@ -38,10 +56,20 @@ public final class PerformanceMain {
 
         ensureOutputDirectory();
 
-        runBenchmarks(suppliedArgs, jsonResultFile);
+        final boolean profileGc = !singleShot(benchmark);
+        if (ThreadSweep.appliesTo(benchmark, suppliedArgs)) {
+            runThreadSweep(benchmark, suppliedArgs, jsonResultFile, profileGc);
+        } else {
+            runBenchmarks(suppliedArgs, jsonResultFile, profileGc);
+        }
 
+        ColdStartAnalysis.annotate(jsonResultFile);
         validateJsonOutput(jsonResultFile);
         writeMarkdownOutput(jsonResultFile);
+
+        if (Boolean.getBoolean(RECORD_HISTORY)) {
+            appendToHistory(jsonResultFile);
+        }
     }
 
     private static String extractBenchmark(final String[] args) {
@@ -66,25 +94,72 @@ public final class PerformanceMain {
         Files.createDirectories(INCLUDES_ROOT);
     }
 
-    private static void runBenchmarks(final String[] suppliedArgs, final Path jsonResultFile)
+    /**
+     * Single shot iterations time a single operation, so allocation rates averaged over the
+     * iteration are meaningless, and the GC profiler's own work around each iteration would be
+     * included in the cold start of the next.
+     */
+    private static boolean singleShot(final String benchmark) {
+        try {
+            // Load without initializing, to avoid running the benchmark's static initializers:
+            final ClassLoader loader = PerformanceMain.class.getClassLoader();
+            final BenchmarkMode mode =
+                    Class.forName(PERFORMANCE_PACKAGE + benchmark, false, loader)
+                            .getAnnotation(BenchmarkMode.class);
+            return mode != null && Arrays.asList(mode.value()).contains(Mode.SingleShotTime);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static void runBenchmarks(
+            final String[] suppliedArgs, final Path jsonResultFile, final boolean profileGc)
             throws IOException {
-        final String[] additionalArgs = {
-            // Output results in csv format
-            "-rf",
-            "json",
-            // To a named file
-            "-rff",
-            jsonResultFile.toString(),
-            // Fail on Error
-            "-foe",
-            "true"
-        };
-
-        final String[] allArgs = new String[suppliedArgs.length + additionalArgs.length];
-        System.arraycopy(additionalArgs, 0, allArgs, 0, additionalArgs.length);
-        System.arraycopy(suppliedArgs, 0, allArgs, additionalArgs.length, suppliedArgs.length);
-
-        org.openjdk.jmh.Main.main(allArgs);
+        final List<String> allArgs =
+                new ArrayList<>(
+                        List.of(
+                                // Output results in csv format
+                                "-rf",
+                                "json",
+                                // To a named file
+                                "-rff",
+                                jsonResultFile.toString(),
+                                // Fail on Error
+                                "-foe",
+                                "true"));
+
+        if (profileGc) {
+            // Capture allocation rates, e.g. bytes allocated per op
+            allArgs.addAll(List.of("-prof", "gc"));
+        }
+
+        allArgs.addAll(Arrays.asList(suppliedArgs));
+
+        org.openjdk.jmh.Main.main(allArgs.toArray(String[]::new));
+    }
+
+    private static void runThreadSweep(
+            final String benchmark,
+            final String[] suppliedArgs,
+            final Path jsonResultFile,
+            final boolean profileGc)
+            throws IOException {
+        final List<Path> runResults = new ArrayList<>();
+        for (final int threads :
+                ThreadSweep.threadCounts(Runtime.getRuntime().availableProcessors())) {
+            final Path runResult = Files.createTempFile(benchmark + "-" + threads + "-", ".json");
+            runResult.toFile().deleteOnExit();
+
+            final String[] args = new String[suppliedArgs.length + 2];
+            args[0] = "-t";
+            args[1] = String.valueOf(threads);
+            System.arraycopy(suppliedArgs, 0, args, 2, suppliedArgs.length);
+
+            runBenchmarks(args, runResult, profileGc);
+            runResults.add(runResult);
+        }
+
+        ThreadSweep.merge(runResults, jsonResultFile);
     }
 
     private static void validateJsonOutput(final Path jsonResultFile) {
@@ -94,4 +169,8 @@ public final class PerformanceMain {
     private static void writeMarkdownOutput(final Path jsonResultFile) {
         new JsonToMarkdownConvertor().convert(jsonResultFile, INCLUDES_ROOT);
     }
+
+    private static void appendToHistory(final Path jsonResultFile) {
+        new ResultHistory(HISTORY_ROOT).append(jsonResultFile);
+    }
 }
@@ -24,5 +24,8 @@ public final class ProjectPaths {
     /** Jekyll include directory */
     public static final Path INCLUDES_ROOT = Paths.get("docs/_includes/");
 
+    /** Append-only history of benchmark results */
+    public static final Path HISTORY_ROOT = Paths.get("benchmark-history/");
+
     private ProjectPaths() {}
 }
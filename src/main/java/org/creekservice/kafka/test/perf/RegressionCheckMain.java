@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf;
+
+import static org.creekservice.kafka.test.perf.ProjectPaths.HISTORY_ROOT;
+
+import java.util.List;
+import org.creekservice.kafka.test.perf.performance.util.RegressionDetector;
+import org.creekservice.kafka.test.perf.performance.util.RegressionDetector.Regression;
+import org.creekservice.kafka.test.perf.performance.util.ResultHistory;
+
+/**
+ * Entry point for checking the benchmark result history for performance regressions between
+ * versions of implementations.
+ *
+ * <p>Exits with a non-zero status if any regressions are detected, allowing dependency updates to
+ * be gated on the result.
+ *
+ * <p>Optionally, invoke with the threshold, e.g. {@code 0.1} to report slowdowns of more than 10%,
+ * and the confidence level of the significance test, e.g. {@code 0.99}.
+ */
+public final class RegressionCheckMain {
+
+    private RegressionCheckMain() {}
+
+    public static void main(final String[] args) {
+        if (args.length > 2) {
+            throw new IllegalArgumentException(
+                    "Invoke with no arguments, or the regression threshold and, optionally, the"
+                            + " confidence level.");
+        }
+
+        final double threshold =
+                args.length > 0
+                        ? Double.parseDouble(args[0])
+                        : RegressionDetector.DEFAULT_THRESHOLD;
+        final double confidence =
+                args.length > 1
+                        ? Double.parseDouble(args[1])
+                        : RegressionDetector.DEFAULT_CONFIDENCE;
+
+        final List<Regression> regressions =
+                new RegressionDetector(threshold, confidence)
+                        .detect(new ResultHistory(HISTORY_ROOT).readAll());
+
+        if (regressions.isEmpty()) {
+            System.out.println("No performance regressions detected");
+            return;
+        }
+
+        System.err.println("Performance regressions detected:");
+        regressions.forEach(regression -> System.err.println(" " + regression));
+        System.exit(1);
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.implementations;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_04;
+import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_06;
+import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_07;
+import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_2020_12;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import io.confluent.kafka.schemaregistry.json.JsonSchema;
+import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.json.KafkaJsonSchemaSerializerConfig;
+import io.confluent.kafka.streams.serdes.json.KafkaJsonSchemaSerde;
+import java.awt.Color;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+
+/**
+ * Confluent's {@link KafkaJsonSchemaSerde}, as would be used by default in a Kafka Streams app.
+ *
+ * <p>The schema is registered with a local {@link MockSchemaRegistryClient}, and the serde is
+ * configured to use it rather than auto-registering the schema it derives from the model.
+ *
+ * <p>The serde reads and writes the Confluent wire format, i.e. the JSON prefixed with a magic
+ * byte and the schema id. To keep to the contract of {@link JsonValidator}, which deals in plain
+ * JSON, this prefix is stripped after serializing and added back before deserializing: a small
+ * copy that a real Kafka client would not need.
+ *
+ * <p>Confluent picks the draft from the schema's {@code $schema} keyword, so it is added to schemas
+ * that lack one.
+ *
+ * <p>Additional, i.e. remote, schemas are registered under their own subjects and referenced from
+ * the main schema by URI, as a Kafka app would use schema references.
+ *
+ * <p>The serde does not provide a way to programmatically turn format assertions on or off, so the
+ * {@code enableFormatAssertions} flag is ignored and the library's default behaviour applies.
+ */
+@SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
+public class ConfluentImplementation implements Implementation {
+
+    private static final MetaData METADATA =
+            new MetaData(
+                    "Confluent Kafka JSON Schema Serde",
+                    "Confluent",
+                    Language.Java,
+                    Licence.Apache_v2_0,
+                    Set.of(DRAFT_04, DRAFT_06, DRAFT_07, DRAFT_2020_12),
+                    "https://github.com/confluentinc/schema-registry",
+                    new Color(23, 48, 74),
+                    JsonSchema.class,
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
+
+    private static final String TOPIC = "t";
+    private static final String SUBJECT = TOPIC + "-value";
+    private static final byte MAGIC_BYTE = 0x0;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private ObjectMapper mapper = JsonMapper.builder().build();
+
+    @Override
+    public MetaData metadata() {
+        return METADATA;
+    }
+
+    @Override
+    public JsonValidator prepare(
+            final String schema,
+            final SchemaSpec spec,
+            final AdditionalSchemas additionalSchemas,
+            final boolean enableFormatAssertions) {
+
+        /*
+        Implementation does not seem to currently provide a way to programmatically turn on format assertions.
+         */
+
+        final SchemaRegistryClient client =
+                new MockSchemaRegistryClient(List.of(new JsonSchemaProvider()));
+        final int schemaId =
+                register(
+                        client,
+                        SUBJECT,
+                        new JsonSchema(
+                                withSpec(schema, spec),
+                                registerRemotes(client, additionalSchemas),
+                                resolvedRemotes(additionalSchemas),
+                                null));
+
+        final Serializer<TestModel> validatingSerializer =
+                serde(client, TestModel.class, true).serializer();
+        final Serializer<TestModel> nonValidatingSerializer =
+                serde(client, TestModel.class, false).serializer();
+        final Deserializer<TestModel> deserializer =
+                serde(client, TestModel.class, true).deserializer();
+        final Deserializer<JsonNode> validator = serde(client, JsonNode.class, true).deserializer();
+
+        return new JsonValidator() {
+            @Override
+            public void validate(final String json) {
+                validate(json.getBytes(UTF_8));
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                validator.deserialize(TOPIC, frame(schemaId, json));
+            }
+
+            @Override
+            public byte[] serialize(final TestModel model, final boolean validate) {
+                final byte[] framed =
+                        validate
+                                ? validatingSerializer.serialize(TOPIC, model)
+                                : nonValidatingSerializer.serialize(TOPIC, model);
+                return Arrays.copyOfRange(framed, HEADER_SIZE, framed.length);
+            }
+
+            @Override
+            public TestModel deserialize(final byte[] data) {
+                return deserializer.deserialize(TOPIC, frame(schemaId, data));
+            }
+        };
+    }
+
+    private String withSpec(final String schema, final SchemaSpec spec) {
+        try {
+            final JsonNode node = mapper.readTree(schema);
+            if (!(node instanceof ObjectNode) || node.has("$schema")) {
+                return schema;
+            }
+
+            ((ObjectNode) node).put("$schema", spec.uri().toString());
+            return mapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Register each remote schema under its own subject.
+     *
+     * @return references to the registered schemas, named by their URI.
+     */
+    private static List<SchemaReference> registerRemotes(
+            final SchemaRegistryClient client, final AdditionalSchemas additionalSchemas) {
+        final List<SchemaReference> references = new ArrayList<>();
+        for (final Map.Entry<URI, String> remote : additionalSchemas.remotes().entrySet()) {
+            final String subject = "remote-" + references.size();
+            register(client, subject, new JsonSchema(remote.getValue()));
+            references.add(new SchemaReference(remote.getKey().toString(), subject, 1));
+        }
+        return references;
+    }
+
+    private static Map<String, String> resolvedRemotes(final AdditionalSchemas additionalSchemas) {
+        return additionalSchemas.remotes().entrySet().stream()
+                .collect(Collectors.toMap(e -> e.getKey().toString(), Map.Entry::getValue));
+    }
+
+    private static int register(
+            final SchemaRegistryClient client, final String subject, final JsonSchema schema) {
+        try {
+            return client.register(subject, schema);
+        } catch (IOException | RestClientException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static <T> KafkaJsonSchemaSerde<T> serde(
+            final SchemaRegistryClient client, final Class<T> type, final boolean validate) {
+        final KafkaJsonSchemaSerde<T> serde = new KafkaJsonSchemaSerde<>(client, type);
+        serde.configure(
+                Map.of(
+                        AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG,
+                        "mock://confluent",
+                        AbstractKafkaSchemaSerDeConfig.AUTO_REGISTER_SCHEMAS,
+                        false,
+                        AbstractKafkaSchemaSerDeConfig.USE_LATEST_VERSION,
+                        true,
+                        AbstractKafkaSchemaSerDeConfig.LATEST_COMPATIBILITY_STRICT,
+                        false,
+                        // Same key for both serializer and deserializer:
+                        KafkaJsonSchemaSerializerConfig.FAIL_INVALID_SCHEMA,
+                        validate),
+                false);
+        return serde;
+    }
+
+    private static byte[] frame(final int schemaId, final byte[] json) {
+        return ByteBuffer.allocate(HEADER_SIZE + json.length)
+                .put(MAGIC_BYTE)
+                .putInt(schemaId)
+                .put(json)
+                .array();
+    }
+}
@@ -20,6 +20,7 @@ import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_07;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_2019_09;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_2020_12;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -33,12 +34,15 @@ import dev.harrel.jsonschema.ValidatorFactory;
 import dev.harrel.jsonschema.providers.JacksonNode;
 import java.awt.Color;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 
 @SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
 public class DevHarrelImplementation implements Implementation {
@@ -58,7 +62,8 @@ public class DevHarrelImplementation implements Implementation {
                     "https://github.com/harrel56/json-schema",
                     new Color(22, 99, 0),
                     dev.harrel.jsonschema.ValidatorFactory.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -81,9 +86,47 @@ public class DevHarrelImplementation implements Implementation {
 
             @Override
             public void validate(final String json) {
-                final Validator.Result result = validator.validate(schemaUri, json);
-                if (!result.isValid()) {
-                    throw new RuntimeException(result.getErrors().get(0).getError());
+                check(validator.validate(schemaUri, json));
+            }
+
+            @Override
+            public Object parse(final String json) {
+                try {
+                    return mapper.readTree(json);
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                check(validator.validate(schemaUri, parsed));
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                try {
+                    validateNode(mapper.readTree(json));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validate(final ByteBuffer json) {
+                try (JsonParser parser = ByteBuffers.createParser(mapper, json)) {
+                    validateNode(mapper.readTree(parser));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validate(final InputStream json) {
+                try {
+                    validateNode(mapper.readTree(json));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
                 }
             }
 
@@ -94,8 +137,8 @@ public class DevHarrelImplementation implements Implementation {
                             mapper.convertValue(
                                     model, com.fasterxml.jackson.databind.JsonNode.class);
                     final Validator.Result result = validator.validate(schemaUri, node);
-                    if (validate && !result.isValid()) {
-                        throw new RuntimeException(result.getErrors().get(0).getError());
+                    if (validate) {
+                        check(result);
                     }
                     return mapper.writeValueAsBytes(node);
                 } catch (JsonProcessingException e) {
@@ -107,18 +150,36 @@ public class DevHarrelImplementation implements Implementation {
             public TestModel deserialize(final byte[] data) {
                 try {
                     final com.fasterxml.jackson.databind.JsonNode node = mapper.readTree(data);
-                    final Validator.Result result = validator.validate(schemaUri, node);
-                    if (!result.isValid()) {
-                        throw new RuntimeException(result.getErrors().get(0).getError());
-                    }
+                    validateNode(node);
                     return mapper.convertValue(node, TestModel.class);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
             }
+
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
+                try (JsonParser parser = ByteBuffers.createParser(mapper, data)) {
+                    final com.fasterxml.jackson.databind.JsonNode node = mapper.readTree(parser);
+                    validateNode(node);
+                    return mapper.convertValue(node, TestModel.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            private void validateNode(final com.fasterxml.jackson.databind.JsonNode node) {
+                check(validator.validate(schemaUri, node));
+            }
         };
     }
 
+    private static void check(final Validator.Result result) {
+        if (!result.isValid()) {
+            throw new RuntimeException(result.getErrors().get(0).getError());
+        }
+    }
+
     private Validator validator(
             final SchemaSpec spec,
             final AdditionalSchemas additionalSchemas,
@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.awt.Color;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -59,7 +60,8 @@ public class EveritImplementation implements Implementation {
                     "https://github.com/everit-org/json-schema",
                     new Color(54, 162, 235),
                     org.everit.json.schema.loader.SchemaLoader.class,
-                    "Deprecated. Replaced by Skema implementation");
+                    "Deprecated. Replaced by Skema implementation",
+                    ThreadSafety.UNDOCUMENTED);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -80,7 +82,7 @@ public class EveritImplementation implements Implementation {
         Instead, they seem to be on-by-default, which is not inline with the draft 2020-12 spec.
          */
 
-        final Object schemaObject = parse(schema);
+        final Object schemaObject = parseJson(schema);
 
         final Schema parsedSchema =
                 schemaLoader(spec)
@@ -96,7 +98,22 @@ public class EveritImplementation implements Implementation {
         return new JsonValidator() {
             @Override
             public void validate(final String json) {
-                parseAndValidate(json);
+                validated(parseJson(json));
+            }
+
+            @Override
+            public Object parse(final String json) {
+                return parseJson(json);
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                validated(parsed);
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                validated(parseJson(json));
             }
 
             @Override
@@ -116,34 +133,43 @@ public class EveritImplementation implements Implementation {
 
             @Override
             public TestModel deserialize(final byte[] data) {
-                final JSONObject jsonObject =
-                        (JSONObject) parseAndValidate(new String(data, UTF_8));
+                final JSONObject jsonObject = (JSONObject) validated(parseJson(data));
                 return mapper.convertValue(jsonObject.toMap(), TestModel.class);
             }
 
-            private Object parseAndValidate(final String json) {
-                final Object jsonObject = parse(json);
+            private Object validated(final Object jsonObject) {
                 parsedSchema.validate(jsonObject);
                 return jsonObject;
             }
         };
     }
 
-    private Object parse(final String json) {
+    private Object parseJson(final String json) {
         try {
-            final Object o = mapper.readValue(json, new TypeReference<>() {});
-            if (o instanceof Map) {
-                return new JSONObject((Map<?, ?>) o);
-            }
-            if (o instanceof Collection) {
-                return new JSONArray((Collection<?>) o);
-            }
-            return o;
+            return toOrgJson(mapper.readValue(json, new TypeReference<>() {}));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private Object parseJson(final byte[] json) {
+        try {
+            return toOrgJson(mapper.readValue(json, new TypeReference<>() {}));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Object toOrgJson(final Object o) {
+        if (o instanceof Map) {
+            return new JSONObject((Map<?, ?>) o);
+        }
+        if (o instanceof Collection) {
+            return new JSONArray((Collection<?>) o);
+        }
+        return o;
+    }
+
     private static SchemaLoader.SchemaLoaderBuilder schemaLoader(final SchemaSpec spec) {
         final SchemaLoader.SchemaLoaderBuilder builder = SchemaLoader.builder();
 
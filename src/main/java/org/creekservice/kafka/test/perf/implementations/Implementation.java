@@ -16,20 +16,26 @@
 
 package org.creekservice.kafka.test.perf.implementations;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.awt.Color;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 import org.creekservice.kafka.test.perf.util.ImplJarFile;
 
 public interface Implementation {
@@ -42,6 +48,99 @@ public interface Implementation {
          */
         void validate(String json);
 
+        /**
+         * Validate a UTF-8 encoded JSON document.
+         *
+         * <p>The default implementation decodes the bytes and calls {@link #validate(String)}.
+         * Implementations should override this method if the underlying library can consume the
+         * bytes directly, avoiding the cost of decoding.
+         *
+         * @param json the UTF-8 encoded JSON to validate
+         */
+        default void validate(final byte[] json) {
+            validate(new String(json, UTF_8));
+        }
+
+        /**
+         * Validate the remaining UTF-8 encoded bytes of a, possibly direct, buffer.
+         *
+         * <p>The default implementation copies the bytes to a heap array and calls {@link
+         * #validate(byte[])}. Implementations should override this method if the underlying
+         * library can stream the buffer, rather than copying all of it to a heap array up front.
+         *
+         * <p>Implementations must not change the position of the supplied buffer.
+         *
+         * @param json the buffer containing the UTF-8 encoded JSON to validate
+         */
+        default void validate(final ByteBuffer json) {
+            validate(ByteBuffers.toBytes(json));
+        }
+
+        /**
+         * Validate a UTF-8 encoded JSON document read from a stream.
+         *
+         * <p>The default implementation reads the whole stream into memory and calls {@link
+         * #validate(byte[])}. Implementations should override this method if the underlying
+         * library can validate the document as it is read, or can at least avoid the copy.
+         *
+         * <p>The caller is responsible for closing the stream.
+         *
+         * @param json the stream containing the UTF-8 encoded JSON to validate
+         */
+        default void validate(final InputStream json) {
+            try {
+                validate(json.readAllBytes());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Validate a batch of UTF-8 encoded JSON documents, e.g. the records returned from a single
+         * Kafka consumer poll.
+         *
+         * <p>The default implementation calls {@link #validate(byte[])} for each document.
+         * Implementations should override this method if they can reuse any per-call state across
+         * the documents in the batch.
+         *
+         * @param batch the UTF-8 encoded JSON documents to validate
+         * @throws RuntimeException on the first document that fails validation.
+         */
+        default void validateBatch(final List<byte[]> batch) {
+            for (final byte[] json : batch) {
+                validate(json);
+            }
+        }
+
+        /**
+         * Parse a JSON document into the native tree of the underlying library, without validating
+         * it.
+         *
+         * <p>Used, along with {@link #validateParsed(Object)}, to measure the cost of parsing
+         * separately from the cost of validation.
+         *
+         * <p>Implementations should override both methods if the underlying library can validate a
+         * pre-parsed tree. Those that can not, e.g. streaming validators, should not, as
+         * validating a tree they have to re-serialize would not measure validation alone.
+         *
+         * @param json the JSON to parse
+         * @return the library's native representation of the document.
+         * @throws UnsupportedOperationException if the library can not validate a pre-parsed tree.
+         */
+        default Object parse(final String json) {
+            throw new UnsupportedOperationException("Validating pre-parsed JSON is not supported");
+        }
+
+        /**
+         * Validate a document previously returned from {@link #parse(String)}.
+         *
+         * @param parsed the parsed document to validate.
+         * @throws UnsupportedOperationException if the library can not validate a pre-parsed tree.
+         */
+        default void validateParsed(final Object parsed) {
+            throw new UnsupportedOperationException("Validating pre-parsed JSON is not supported");
+        }
+
         /**
          * Serialize the model to bytes
          *
@@ -62,6 +161,22 @@ public interface Implementation {
          * @return the deserialized object.
          */
         TestModel deserialize(byte[] data);
+
+        /**
+         * Deserialise a model from the remaining bytes of a, possibly direct, buffer.
+         *
+         * <p>The default implementation copies the bytes to a heap array and calls {@link
+         * #deserialize(byte[])}. Implementations should override this method if the underlying
+         * library can stream the buffer, rather than copying all of it to a heap array up front.
+         *
+         * <p>Implementations must not change the position of the supplied buffer.
+         *
+         * @param data the buffer containing the JSON document to deserialize.
+         * @return the deserialized object.
+         */
+        default TestModel deserialize(final ByteBuffer data) {
+            return deserialize(ByteBuffers.toBytes(data));
+        }
     }
 
     enum Language {
@@ -87,6 +202,28 @@ public interface Implementation {
         }
     }
 
+    /** Whether a prepared {@link JsonValidator} can safely be shared across threads. */
+    enum ThreadSafety {
+        /** The library documents its validators as safe to share across threads. */
+        THREAD_SAFE("Thread safe"),
+        /** The library documents its validators as not safe to share across threads. */
+        NOT_THREAD_SAFE("Not thread safe"),
+        /** The library does not document whether its validators are safe to share. */
+        UNDOCUMENTED("Undocumented");
+
+        private final String text;
+
+        ThreadSafety(final String text) {
+            this.text = requireNonNull(text, "text");
+        }
+
+        @JsonValue
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
     final class MetaData {
 
         public static final String ACTIVE_PROJECT = "";
@@ -101,6 +238,7 @@ public interface Implementation {
         private final Color color;
         private final ImplJarFile implJarFile;
         private final String inactiveMsg;
+        private final ThreadSafety threadSafety;
 
         /**
          * Construct metadata about a specific validator implementation.
@@ -119,6 +257,8 @@ public interface Implementation {
          *     determine the size of the jar.
          * @param inactiveMsg Optional message with details of how long the project has been
          *     inactive for. Use {@code ACTIVE_PROJECT} for active projects.
+         * @param threadSafety whether the library documents a prepared validator as safe to share
+         *     across threads. Use {@link ThreadSafety#UNDOCUMENTED} if it does not say.
          */
         @SuppressWarnings("checkstyle:ParameterNumber")
         public MetaData(
@@ -130,7 +270,8 @@ public interface Implementation {
                 final String url,
                 final Color color,
                 final Class<?> typeFromImplementation,
-                final String inactiveMsg) {
+                final String inactiveMsg,
+                final ThreadSafety threadSafety) {
             this.longName = requireNonNull(longName, "longName").trim();
             this.shortName = requireNonNull(shortName, "shortName").trim();
             this.language = requireNonNull(language, "language");
@@ -144,6 +285,7 @@ public interface Implementation {
             this.color = requireNonNull(color, "color");
             this.implJarFile = new ImplJarFile(typeFromImplementation);
             this.inactiveMsg = requireNonNull(inactiveMsg, "inactiveMsg").trim();
+            this.threadSafety = requireNonNull(threadSafety, "threadSafety");
 
             if (longName.isBlank()) {
                 throw new IllegalArgumentException("Long name blank");
@@ -214,6 +356,11 @@ public interface Implementation {
         public String inactiveMsg() {
             return inactiveMsg;
         }
+
+        @JsonProperty("threadSafety")
+        public ThreadSafety threadSafety() {
+            return threadSafety;
+        }
     }
 
     /**
@@ -236,8 +383,9 @@ public interface Implementation {
      * {@code schema}.
      *
      * <p>Implementations should do as much work upfront as possible, e.g. parsing schemas and
-     * building validators, as the time spent in this method does not currently form part of the
-     * benchmarked code, i.e. time spent in this method is ignored in the benchmarking.
+     * building validators, as the time spent in this method does not form part of the validation
+     * and serde benchmarks. Time spent in this method is measured separately, by the {@code
+     * JsonPrepareBenchmark}.
      *
      * @param schema the schema to validate with
      * @param spec the spec of the schema
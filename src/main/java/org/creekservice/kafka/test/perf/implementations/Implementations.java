@@ -28,6 +28,7 @@ public final class Implementations {
     private static final List<Implementation> IMPLS =
             List.of(
                     new JacksonImplementation(),
+                    new ConfluentImplementation(),
                     new EveritImplementation(),
                     new JustifyImplementation(),
                     new MedeiaImplementation(),
@@ -16,15 +16,18 @@
 
 package org.creekservice.kafka.test.perf.implementations;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.awt.Color;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Set;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 
 @SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
 public class JacksonImplementation implements Implementation {
@@ -39,7 +42,8 @@ public class JacksonImplementation implements Implementation {
                     "https://github.com/FasterXML/jackson-core",
                     new Color(20, 84, 166),
                     JsonMapper.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.THREAD_SAFE);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -77,6 +81,15 @@ public class JacksonImplementation implements Implementation {
                     throw new RuntimeException(e);
                 }
             }
+
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
+                try (JsonParser parser = ByteBuffers.createParser(mapper, data)) {
+                    return mapper.readValue(parser, TestModel.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
         };
     }
 }
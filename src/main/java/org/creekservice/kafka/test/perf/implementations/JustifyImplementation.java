@@ -24,14 +24,18 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonParser;
 import java.awt.Color;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaResolver;
 import org.leadpony.justify.api.JsonValidationService;
@@ -57,7 +61,8 @@ public class JustifyImplementation implements Implementation {
                     "https://github.com/leadpony/justify",
                     new Color(153, 102, 255),
                     org.leadpony.justify.api.JsonValidationService.class,
-                    "No sign of active development - Last released Nov, 2020.");
+                    "No sign of active development - Last released Nov, 2020.",
+                    ThreadSafety.THREAD_SAFE);
 
     private ProblemHandler handler =
             problems -> {
@@ -83,7 +88,27 @@ public class JustifyImplementation implements Implementation {
         return new JsonValidator() {
             @Override
             public void validate(final String json) {
-                validate(service, json.getBytes(StandardCharsets.UTF_8), parsedSchema);
+                validate(json.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                validate(service, new ByteArrayInputStream(json), parsedSchema);
+            }
+
+            @Override
+            public void validate(final ByteBuffer json) {
+                validate(service, ByteBuffers.asInputStream(json), parsedSchema);
+            }
+
+            @Override
+            public void validate(final InputStream json) {
+                // Validation happens as events are read, so there is no need to build a tree:
+                try (JsonParser parser = service.createParser(json, parsedSchema, handler)) {
+                    while (parser.hasNext()) {
+                        parser.next();
+                    }
+                }
             }
 
             @Override
@@ -93,7 +118,7 @@ public class JustifyImplementation implements Implementation {
 
                     if (validate) {
                         // Double parse seems unavoidable, even if using json-b:
-                        validate(service, bytes, parsedSchema);
+                        validate(bytes);
                     }
 
                     return bytes;
@@ -105,7 +130,7 @@ public class JustifyImplementation implements Implementation {
             @Override
             public TestModel deserialize(final byte[] data) {
                 try {
-                    validate(service, data, parsedSchema);
+                    validate(data);
 
                     // Double parse seems unavoidable, even if using json-b:
                     return mapper.readValue(data, TestModel.class);
@@ -114,13 +139,24 @@ public class JustifyImplementation implements Implementation {
                 }
             }
 
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
+                validate(data);
+
+                // Double parse seems unavoidable, even if using json-b:
+                try (com.fasterxml.jackson.core.JsonParser parser =
+                        ByteBuffers.createParser(mapper, data)) {
+                    return mapper.readValue(parser, TestModel.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
             private void validate(
                     final JsonValidationService service,
-                    final byte[] json,
+                    final InputStream json,
                     final JsonSchema parsedSchema) {
-                try (JsonReader reader =
-                        service.createReader(
-                                new ByteArrayInputStream(json), parsedSchema, handler)) {
+                try (JsonReader reader = service.createReader(json, parsedSchema, handler)) {
                     reader.readValue();
                 }
             }
@@ -22,6 +22,7 @@ import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_07;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
@@ -35,6 +36,8 @@ import com.worldturner.medeia.schema.validation.SchemaValidator;
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,7 +46,7 @@ import java.util.stream.Collectors;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
-import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 
 @SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
 public class MedeiaImplementation implements Implementation {
@@ -64,16 +67,14 @@ public class MedeiaImplementation implements Implementation {
                     "https://github.com/worldturner/medeia-validator",
                     new Color(201, 203, 207),
                     com.worldturner.medeia.schema.validation.SchemaValidator.class,
-                    "No sign of active development - Last released Jun, 2019.");
+                    "No sign of active development - Last released Jun, 2019.",
+                    ThreadSafety.UNDOCUMENTED);
 
     private static final ValidationOptions VALIDATOR_OPTIONS =
             new ValidationOptions().withValidateSchema(false);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
     private MedeiaJacksonApi api = new MedeiaJacksonApi();
-    private SchemaValidator schemaValidator =
-            api.loadSchemas(
-                    List.of(new StringSchemaSource(TestSchemas.DRAFT_7_SCHEMA)), VALIDATOR_OPTIONS);
 
     @Override
     public MetaData metadata() {
@@ -108,7 +109,34 @@ public class MedeiaImplementation implements Implementation {
         return new JsonValidator() {
             @Override
             public void validate(final String json) {
-                parseAndValidate(json.getBytes(StandardCharsets.UTF_8), JsonNode.class);
+                validate(json.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                try {
+                    parseAndValidate(mapper.createParser(json), JsonNode.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validate(final ByteBuffer json) {
+                try {
+                    parseAndValidate(ByteBuffers.createParser(mapper, json), JsonNode.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validate(final InputStream json) {
+                try {
+                    validateTokens(mapper.createParser(json));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
             }
 
             @Override
@@ -117,7 +145,7 @@ public class MedeiaImplementation implements Implementation {
                     final ByteArrayOutputStream out = new ByteArrayOutputStream();
                     JsonGenerator generator = mapper.getFactory().createGenerator(out);
                     if (validate) {
-                        generator = api.decorateJsonGenerator(schemaValidator, generator);
+                        generator = api.decorateJsonGenerator(v, generator);
                     }
                     mapper.writeValue(generator, model);
                     return out.toByteArray();
@@ -128,18 +156,42 @@ public class MedeiaImplementation implements Implementation {
 
             @Override
             public TestModel deserialize(final byte[] data) {
-                return parseAndValidate(data, TestModel.class);
+                try {
+                    return parseAndValidate(mapper.createParser(data), TestModel.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
             }
 
-            private <T> T parseAndValidate(final byte[] data, final Class<T> type) {
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
                 try {
-                    final JsonParser parser = mapper.createParser(data);
-                    final JsonParser validatingParser = api.decorateJsonParser(v, parser);
-                    return mapper.reader().readValue(validatingParser, type);
+                    return parseAndValidate(
+                            ByteBuffers.createParser(mapper, data), TestModel.class);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            private void validateTokens(final JsonParser source) {
+                try (JsonParser parser = api.decorateJsonParser(v, source)) {
+                    // Validation happens as tokens are read, so there is no need to build a tree:
+                    JsonToken token = parser.nextToken();
+                    while (token != null) {
+                        token = parser.nextToken();
+                    }
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
             }
+
+            private <T> T parseAndValidate(final JsonParser parser, final Class<T> type)
+                    throws IOException {
+                // Closing the validating parser closes the parser it decorates:
+                try (JsonParser validatingParser = api.decorateJsonParser(v, parser)) {
+                    return mapper.reader().readValue(validatingParser, type);
+                }
+            }
         };
     }
 
@@ -17,6 +17,7 @@
 package org.creekservice.kafka.test.perf.implementations;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_04;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_06;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_07;
@@ -28,19 +29,26 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.networknt.schema.Error;
+import com.networknt.schema.ExecutionContext;
 import com.networknt.schema.InputFormat;
 import com.networknt.schema.Schema;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SchemaRegistryConfig;
 import com.networknt.schema.SpecificationVersion;
 import com.networknt.schema.regex.JoniRegularExpressionFactory;
+import com.networknt.schema.regex.RegularExpressionFactory;
 import java.awt.Color;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 
 @SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
 public class NetworkNtImplementation implements Implementation {
@@ -63,10 +71,26 @@ public class NetworkNtImplementation implements Implementation {
                     "https://github.com/networknt/json-schema-validator",
                     new Color(255, 205, 86),
                     com.networknt.schema.SchemaRegistry.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.THREAD_SAFE);
 
+    private final RegularExpressionFactory regexFactory;
     private ObjectMapper mapper = JsonMapper.builder().build();
 
+    public NetworkNtImplementation() {
+        // By default, the library uses the JDK regular expression implementation which is not ECMA
+        // 262 compliant. This requires the joni dependency
+        this(JoniRegularExpressionFactory.getInstance());
+    }
+
+    /**
+     * @param regexFactory the factory used to compile regular expressions in schemas, e.g. {@code
+     *     pattern} and {@code patternProperties}.
+     */
+    public NetworkNtImplementation(final RegularExpressionFactory regexFactory) {
+        this.regexFactory = requireNonNull(regexFactory, "regexFactory");
+    }
+
     @Override
     public MetaData metadata() {
         return METADATA;
@@ -84,7 +108,16 @@ public class NetworkNtImplementation implements Implementation {
         Instead, they seem to be on-by-default, which is not inline with the draft 2020-12 spec.
          */
 
-        final Schema parsedSchema = parseSchema(schema, spec, additionalSchemas);
+        final SchemaRegistry registry = schemaRegistry(spec, additionalSchemas);
+        final Schema parsedSchema = registry.getSchema(schema);
+
+        // Created once, rather than on each call, as the lambda captures enableFormatAssertions:
+        final Consumer<ExecutionContext> executionCustomizer =
+                executionContext ->
+                        executionContext.executionConfig(
+                                config ->
+                                        config.formatAssertionsEnabled(
+                                                enableFormatAssertions ? true : null));
 
         return new JsonValidator() {
             @Override
@@ -92,6 +125,35 @@ public class NetworkNtImplementation implements Implementation {
                 doValidate(json);
             }
 
+            @Override
+            public Object parse(final String json) {
+                try {
+                    return registry.readTree(json, InputFormat.JSON);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                doValidate((JsonNode) parsed);
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                doValidate(readTree(new ByteArrayInputStream(json)));
+            }
+
+            @Override
+            public void validate(final ByteBuffer json) {
+                doValidate(readTree(ByteBuffers.asInputStream(json)));
+            }
+
+            @Override
+            public void validate(final InputStream json) {
+                doValidate(readTree(json));
+            }
+
             @Override
             public byte[] serialize(final TestModel model, final boolean validate) {
                 try {
@@ -117,23 +179,40 @@ public class NetworkNtImplementation implements Implementation {
                 }
             }
 
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
+                final JsonNode node = readTree(ByteBuffers.asInputStream(data));
+                doValidate(node);
+                return mapper.convertValue(node, TestModel.class);
+            }
+
             private JsonNode parse(final byte[] data) throws IOException {
                 doValidate(new String(data, UTF_8));
                 return mapper.readValue(data, JsonNode.class);
             }
 
+            /**
+             * Read JSON using the library's own node reader, as {@link #validate(String)} does, so
+             * that all input formats are validated identically, e.g. the handling of numbers.
+             */
+            private JsonNode readTree(final InputStream json) {
+                try {
+                    return registry.readTree(json, InputFormat.JSON);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
             private void doValidate(final String json) {
                 final List<Error> errors =
-                        parsedSchema.validate(
-                                json,
-                                InputFormat.JSON,
-                                executionContext ->
-                                        executionContext.executionConfig(
-                                                config ->
-                                                        config.formatAssertionsEnabled(
-                                                                enableFormatAssertions
-                                                                        ? true
-                                                                        : null)));
+                        parsedSchema.validate(json, InputFormat.JSON, executionCustomizer);
+                if (!errors.isEmpty()) {
+                    throw new RuntimeException(errors.toString());
+                }
+            }
+
+            private void doValidate(final JsonNode node) {
+                final List<Error> errors = parsedSchema.validate(node, executionCustomizer);
                 if (!errors.isEmpty()) {
                     throw new RuntimeException(errors.toString());
                 }
@@ -141,20 +220,13 @@ public class NetworkNtImplementation implements Implementation {
         };
     }
 
-    private Schema parseSchema(
-            final String schema, final SchemaSpec spec, final AdditionalSchemas additionalSchemas) {
-        // By default, the library uses the JDK regular expression implementation which is not ECMA
-        // 262 compliant. This requires the joni dependency
+    private SchemaRegistry schemaRegistry(
+            final SchemaSpec spec, final AdditionalSchemas additionalSchemas) {
         final SchemaRegistryConfig config =
-                SchemaRegistryConfig.builder()
-                        .regularExpressionFactory(JoniRegularExpressionFactory.getInstance())
-                        .build();
+                SchemaRegistryConfig.builder().regularExpressionFactory(regexFactory).build();
         return SchemaRegistry.withDefaultDialect(
-                        schemaVersion(spec),
-                        builder ->
-                                builder.schemas(additionalSchemas::load)
-                                        .schemaRegistryConfig(config))
-                .getSchema(schema);
+                schemaVersion(spec),
+                builder -> builder.schemas(additionalSchemas::load).schemaRegistryConfig(config));
     }
 
     private SpecificationVersion schemaVersion(final SchemaSpec spec) {
@@ -23,13 +23,16 @@ import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_07;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_2019_09;
 import static org.creekservice.kafka.test.perf.testsuite.SchemaSpec.DRAFT_2020_12;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import java.awt.Color;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -41,6 +44,7 @@ import net.jimblackler.jsonschemafriend.Validator;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 
 @SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
 public class SchemaFriendImplementation implements Implementation {
@@ -55,7 +59,8 @@ public class SchemaFriendImplementation implements Implementation {
                     "https://github.com/jimblackler/jsonschemafriend",
                     new Color(255, 159, 64),
                     net.jimblackler.jsonschemafriend.Validator.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -78,11 +83,49 @@ public class SchemaFriendImplementation implements Implementation {
             @Override
             public void validate(final String json) {
                 try {
-                    final Object o = mapper.readValue(json, Object.class);
-                    validator.validate(parsedSchema, o, URI.create(""));
-                } catch (RuntimeException e) {
-                    throw e;
-                } catch (Exception e) {
+                    validateObject(mapper.readValue(json, Object.class));
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Object parse(final String json) {
+                try {
+                    return mapper.readValue(json, Object.class);
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                validateObject(parsed);
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                try {
+                    validateObject(mapper.readValue(json, Object.class));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validate(final ByteBuffer json) {
+                try (JsonParser parser = ByteBuffers.createParser(mapper, json)) {
+                    validateObject(mapper.readValue(parser, Object.class));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void validate(final InputStream json) {
+                try {
+                    validateObject(mapper.readValue(json, Object.class));
+                } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
             }
@@ -116,6 +159,28 @@ public class SchemaFriendImplementation implements Implementation {
                     throw new RuntimeException(e);
                 }
             }
+
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
+                try (JsonParser parser = ByteBuffers.createParser(mapper, data)) {
+                    final Map<String, Object> map =
+                            mapper.readValue(parser, new TypeReference<>() {});
+
+                    validator.validate(parsedSchema, map);
+
+                    return mapper.convertValue(map, TestModel.class);
+                } catch (ValidationException | IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            private void validateObject(final Object o) {
+                try {
+                    validator.validate(parsedSchema, o, URI.create(""));
+                } catch (ValidationException e) {
+                    throw new RuntimeException(e);
+                }
+            }
         };
     }
 
@@ -45,7 +45,8 @@ public class Sjf4jImplementation implements Implementation {
                     "https://github.com/sjf4j-projects/sjf4j",
                     Color.CYAN,
                     Sjf4j.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
 
     @Override
     public MetaData metadata() {
@@ -84,6 +85,16 @@ public class Sjf4jImplementation implements Implementation {
                 plan.requireValid(node, enableFormatAssertions);
             }
 
+            @Override
+            public Object parse(final String json) {
+                return sjf4j.fromJson(json);
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                plan.requireValid(parsed, enableFormatAssertions);
+            }
+
             @Override
             public byte[] serialize(final TestModel model, final boolean validate) {
                 try {
@@ -56,7 +56,8 @@ public class SkemaImplementation implements Implementation {
                     "https://github.com/erosb/json-sKema",
                     new Color(0, 13, 38),
                     com.github.erosb.jsonsKema.Validator.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -97,6 +98,19 @@ public class SkemaImplementation implements Implementation {
                 }
             }
 
+            @Override
+            public Object parse(final String json) {
+                return new JsonParser(json).parse();
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                final ValidationFailure failure = validator.validate((JsonValue) parsed);
+                if (failure != null) {
+                    throw new RuntimeException(failure.getMessage());
+                }
+            }
+
             @Override
             public byte[] serialize(final TestModel model, final boolean validate) {
                 try {
@@ -18,9 +18,11 @@ package org.creekservice.kafka.test.perf.implementations;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.google.gson.JsonElement;
+import com.qindesign.json.schema.Annotation;
 import com.qindesign.json.schema.Error;
 import com.qindesign.json.schema.JSON;
 import com.qindesign.json.schema.JSONPath;
@@ -32,14 +34,18 @@ import com.qindesign.json.schema.Validator;
 import com.qindesign.json.schema.net.URI;
 import java.awt.Color;
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.creekservice.kafka.test.perf.model.TestModel;
 import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.ByteBuffers;
 
 @SuppressWarnings("FieldMayBeFinal") // not final to avoid folding.
 public class SnowImplementation implements Implementation {
@@ -60,7 +66,8 @@ public class SnowImplementation implements Implementation {
                     "https://github.com/ssilverman/snowy-json",
                     new Color(75, 192, 192),
                     com.qindesign.json.schema.Validator.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -85,10 +92,54 @@ public class SnowImplementation implements Implementation {
         return new JsonValidator() {
             @Override
             public void validate(final String json) {
+                validate(json.getBytes(UTF_8));
+            }
+
+            @Override
+            public Object parse(final String json) {
+                return parseJson(json.getBytes(UTF_8));
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                validate((JsonElement) parsed, new HashMap<>(), new HashMap<>());
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                validate(new ByteArrayInputStream(json));
+            }
+
+            @Override
+            public void validate(final ByteBuffer json) {
+                validate(ByteBuffers.asInputStream(json));
+            }
+
+            @Override
+            public void validate(final InputStream json) {
+                validate(JSON.parse(json), new HashMap<>(), new HashMap<>());
+            }
+
+            @Override
+            public void validateBatch(final List<byte[]> batch) {
+                // Reuse the same maps for each document:
+                final Map<JSONPath, Map<String, Map<JSONPath, Annotation<?>>>> annotations =
+                        new HashMap<>();
+                final Map<JSONPath, Map<JSONPath, Error<?>>> errors = new HashMap<>();
+
+                for (final byte[] json : batch) {
+                    annotations.clear();
+                    errors.clear();
+                    validate(parseJson(json), annotations, errors);
+                }
+            }
+
+            private void validate(
+                    final JsonElement toValidate,
+                    final Map<JSONPath, Map<String, Map<JSONPath, Annotation<?>>>> annotations,
+                    final Map<JSONPath, Map<JSONPath, Error<?>>> errors) {
                 try {
-                    final JsonElement toValidate = parse(json.getBytes(UTF_8));
-                    final Map<JSONPath, Map<JSONPath, Error<?>>> errors = new HashMap<>();
-                    if (!validator.validate(toValidate, new HashMap<>(), errors)) {
+                    if (!validator.validate(toValidate, annotations, errors)) {
                         throw new RuntimeException(errors.toString());
                     }
                 } catch (MalformedSchemaException e) {
@@ -122,18 +173,20 @@ public class SnowImplementation implements Implementation {
                 }
             }
 
-            private void validate(final byte[] bytes) throws MalformedSchemaException {
-                final JsonElement json = parse(bytes);
+            @Override
+            public TestModel deserialize(final ByteBuffer data) {
+                validate(data);
 
-                final Map<JSONPath, Map<JSONPath, Error<?>>> errors = new HashMap<>();
-                if (!validator.validate(json, new HashMap<>(), errors)) {
-                    throw new RuntimeException(errors.toString());
+                try (JsonParser parser = ByteBuffers.createParser(mapper, data)) {
+                    return mapper.readValue(parser, TestModel.class);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
                 }
             }
         };
     }
 
-    private static JsonElement parse(final byte[] bytes) {
+    private static JsonElement parseJson(final byte[] bytes) {
         return JSON.parse(new ByteArrayInputStream(bytes));
     }
 
@@ -157,7 +210,7 @@ public class SnowImplementation implements Implementation {
             opts.set(Option.DEFAULT_SPECIFICATION, schemaVersion(spec));
 
             return new Validator(
-                    parse(schema.getBytes(UTF_8)),
+                    parseJson(schema.getBytes(UTF_8)),
                     URI.parseUnchecked("https://something.com/"),
                     Map.of(),
                     knownURLs,
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.implementations;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+
+/**
+ * A {@link JsonValidator} that delegates each call to a validator obtained from a pool.
+ *
+ * <p>Allows implementations whose validators are not safe to share across threads to be used
+ * from many threads. The {@link Strategy} controls how validators are pooled. Validators are
+ * created on demand, using the supplied factory, e.g. a call to {@link Implementation#prepare}.
+ */
+public final class ValidatorPool implements JsonValidator {
+
+    /** How validators are pooled. */
+    public enum Strategy {
+        /** No pooling: a single validator is shared by all threads. Only safe if thread safe. */
+        SHARED {
+            @Override
+            Pool create(final Supplier<JsonValidator> factory) {
+                final JsonValidator validator = factory.get();
+                return new Pool() {
+                    @Override
+                    public JsonValidator borrow() {
+                        return validator;
+                    }
+
+                    @Override
+                    public void release(final JsonValidator borrowed) {}
+                };
+            }
+        },
+        /** Each thread creates and holds its own validator in a {@link ThreadLocal}. */
+        THREAD_LOCAL {
+            @Override
+            Pool create(final Supplier<JsonValidator> factory) {
+                final ThreadLocal<JsonValidator> validators = ThreadLocal.withInitial(factory);
+                return new Pool() {
+                    @Override
+                    public JsonValidator borrow() {
+                        return validators.get();
+                    }
+
+                    @Override
+                    public void release(final JsonValidator borrowed) {}
+                };
+            }
+        },
+        /**
+         * Validators are held in a fixed number of slots, one per available processor, rounded up
+         * to a power of two. Threads take a validator from a slot, starting at a slot chosen by
+         * their thread id, and return it when done. A new validator is created if all slots are
+         * empty, and discarded on return if all slots are full.
+         *
+         * <p>Uses compare-and-set, rather than locks. The number of validators retained is bounded
+         * by the number of processors, not threads.
+         */
+        STRIPED {
+            @Override
+            Pool create(final Supplier<JsonValidator> factory) {
+                return new StripedPool(factory, Runtime.getRuntime().availableProcessors());
+            }
+        };
+
+        abstract Pool create(Supplier<JsonValidator> factory);
+    }
+
+    interface Pool {
+        JsonValidator borrow();
+
+        void release(JsonValidator validator);
+    }
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Pool pool;
+
+    /**
+     * @param strategy the pooling strategy.
+     * @param factory the factory used to create new validators.
+     */
+    public ValidatorPool(final Strategy strategy, final Supplier<JsonValidator> factory) {
+        requireNonNull(factory, "factory");
+        this.pool =
+                requireNonNull(strategy, "strategy")
+                        .create(
+                                () -> {
+                                    created.incrementAndGet();
+                                    return factory.get();
+                                });
+    }
+
+    /**
+     * @return the number of validators created by the pool, a proxy for the memory it uses.
+     */
+    public int created() {
+        return created.get();
+    }
+
+    @Override
+    public void validate(final String json) {
+        use(validator -> validator.validate(json));
+    }
+
+    @Override
+    public void validate(final byte[] json) {
+        use(validator -> validator.validate(json));
+    }
+
+    @Override
+    public void validate(final ByteBuffer json) {
+        use(validator -> validator.validate(json));
+    }
+
+    @Override
+    public void validate(final InputStream json) {
+        use(validator -> validator.validate(json));
+    }
+
+    @Override
+    public void validateBatch(final List<byte[]> batch) {
+        use(validator -> validator.validateBatch(batch));
+    }
+
+    @Override
+    public Object parse(final String json) {
+        return apply(validator -> validator.parse(json));
+    }
+
+    @Override
+    public void validateParsed(final Object parsed) {
+        use(validator -> validator.validateParsed(parsed));
+    }
+
+    @Override
+    public byte[] serialize(final TestModel model, final boolean validate) {
+        return apply(validator -> validator.serialize(model, validate));
+    }
+
+    @Override
+    public TestModel deserialize(final byte[] data) {
+        return apply(validator -> validator.deserialize(data));
+    }
+
+    @Override
+    public TestModel deserialize(final ByteBuffer data) {
+        return apply(validator -> validator.deserialize(data));
+    }
+
+    private void use(final Consumer<JsonValidator> action) {
+        final JsonValidator validator = pool.borrow();
+        try {
+            action.accept(validator);
+        } finally {
+            pool.release(validator);
+        }
+    }
+
+    private <T> T apply(final Function<JsonValidator, T> action) {
+        final JsonValidator validator = pool.borrow();
+        try {
+            return action.apply(validator);
+        } finally {
+            pool.release(validator);
+        }
+    }
+
+    private static final class StripedPool implements Pool {
+
+        private final Supplier<JsonValidator> factory;
+        private final AtomicReferenceArray<JsonValidator> slots;
+        private final int mask;
+
+        StripedPool(final Supplier<JsonValidator> factory, final int stripes) {
+            final int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+            this.factory = requireNonNull(factory, "factory");
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+        }
+
+        @Override
+        public JsonValidator borrow() {
+            final int start = start();
+            for (int i = 0; i <= mask; i++) {
+                final int slot = (start + i) & mask;
+                if (slots.get(slot) != null) {
+                    final JsonValidator validator = slots.getAndSet(slot, null);
+                    if (validator != null) {
+                        return validator;
+                    }
+                }
+            }
+            return factory.get();
+        }
+
+        @Override
+        public void release(final JsonValidator validator) {
+            final int start = start();
+            for (int i = 0; i <= mask; i++) {
+                if (slots.compareAndSet((start + i) & mask, null, validator)) {
+                    return;
+                }
+            }
+            // All slots full: discard.
+        }
+
+        private int start() {
+            // Spread sequential thread ids across the slots:
+            final long id = Thread.currentThread().getId();
+            return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.Draft;
@@ -55,7 +56,8 @@ public class VertxImplementation implements Implementation {
                     "https://github.com/eclipse-vertx/vertx-json-schema",
                     new Color(255, 99, 132),
                     io.vertx.json.schema.Validator.class,
-                    MetaData.ACTIVE_PROJECT);
+                    MetaData.ACTIVE_PROJECT,
+                    ThreadSafety.UNDOCUMENTED);
 
     private ObjectMapper mapper = JsonMapper.builder().build();
 
@@ -101,6 +103,27 @@ public class VertxImplementation implements Implementation {
                 }
             }
 
+            @Override
+            public Object parse(final String json) {
+                return Json.decodeValue(json);
+            }
+
+            @Override
+            public void validateParsed(final Object parsed) {
+                final OutputUnit result = validator.validate(parsed);
+                if (!result.getValid()) {
+                    throw new RuntimeException(result.toString());
+                }
+            }
+
+            @Override
+            public void validate(final byte[] json) {
+                final OutputUnit result = validator.validate(Json.decodeValue(Buffer.buffer(json)));
+                if (!result.getValid()) {
+                    throw new RuntimeException(result.toString());
+                }
+            }
+
             @Override
             public byte[] serialize(final TestModel model, final boolean validate) {
                 try {
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A generated JSON document of a specific size, which is valid against the {@link TestModel}
+ * schemas.
+ *
+ * <p>The document's size comes from a long {@code list} array. The document is generated as it is
+ * read, so even very large documents take up no memory until a validator reads them.
+ */
+public final class LargeDocument {
+
+    private static final byte[] PREFIX =
+            ("{\"name\":\"large document\",\"decimal\":1.5,\"anEnum\":\"THIS\","
+                            + "\"polymorphicTypes\":[{\"@type\":\"poly-b\",\"num\":1.0}],"
+                            + "\"list\":[")
+                    .getBytes(UTF_8);
+
+    private static final byte[] ITEM =
+            "\"some text to pad out the document, so that it is a certain size\",".getBytes(UTF_8);
+
+    private static final byte[] SUFFIX = "\"end\"]}".getBytes(UTF_8);
+
+    private final long size;
+    private final long items;
+
+    /**
+     * @param size the exact size of the document, in bytes.
+     */
+    public LargeDocument(final long size) {
+        final long minSize = PREFIX.length + SUFFIX.length;
+        if (size < minSize) {
+            throw new IllegalArgumentException("size must be at least " + minSize);
+        }
+        this.size = size;
+        this.items = (size - minSize) / ITEM.length;
+    }
+
+    /**
+     * @return the size of the document, in bytes.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return a new stream over the UTF-8 encoded document.
+     */
+    public InputStream open() {
+        return new DocumentStream();
+    }
+
+    private final class DocumentStream extends InputStream {
+
+        private final long itemsEnd = PREFIX.length + items * ITEM.length;
+        private final long paddingEnd = size - SUFFIX.length;
+        private long position;
+
+        @Override
+        public int read() {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, bytes.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (position == size) {
+                return -1;
+            }
+
+            int read = 0;
+            while (read < len && position < size) {
+                read += copy(bytes, off + read, len - read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final long skipped = Math.max(0, Math.min(n, size - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, size - position);
+        }
+
+        private int copy(final byte[] bytes, final int off, final int len) {
+            if (position < PREFIX.length) {
+                return copy(PREFIX, (int) position, bytes, off, len);
+            }
+            if (position < itemsEnd) {
+                final int itemOffset = (int) ((position - PREFIX.length) % ITEM.length);
+                return copy(ITEM, itemOffset, bytes, off, len);
+            }
+            if (position < paddingEnd) {
+                final int count = (int) Math.min(len, paddingEnd - position);
+                Arrays.fill(bytes, off, off + count, (byte) ' ');
+                position += count;
+                return count;
+            }
+            return copy(SUFFIX, (int) (position - paddingEnd), bytes, off, len);
+        }
+
+        private int copy(
+                final byte[] src,
+                final int srcOff,
+                final byte[] bytes,
+                final int off,
+                final int len) {
+            final int count = Math.min(len, src.length - srcOff);
+            System.arraycopy(src, srcOff, bytes, off, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The ways in which a {@link TestModel} can be scaled up to a target serialized size.
+ *
+ * <p>Each shape grows a single aspect of the model, leaving the rest at a minimal size, so that the
+ * cost of validating each aspect can be seen in isolation.
+ */
+public enum PayloadShape {
+    /** Scales the number of entries in {@code list}. */
+    LIST {
+        @Override
+        TestModel build(final int count) {
+            return model(Collections.nCopies(count, "list-item"), polymorphic(1));
+        }
+    },
+    /** Scales the number of entries in {@code polymorphicTypes}. */
+    POLYMORPHIC {
+        @Override
+        TestModel build(final int count) {
+            return model(List.of(), polymorphic(count));
+        }
+    },
+    /** Scales the length of a single string in {@code list}. */
+    STRING {
+        @Override
+        TestModel build(final int count) {
+            return model(List.of("x".repeat(count)), polymorphic(1));
+        }
+    };
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Build a model whose serialized form is approximately the supplied size.
+     *
+     * <p>The size will be within one element of the target, or as small as the shape allows, if the
+     * target is smaller than that.
+     *
+     * @param targetBytes the target size of the serialized model, in bytes.
+     * @return the model.
+     */
+    public TestModel model(final int targetBytes) {
+        final int base = serializedSize(build(1));
+        final float perElement = (serializedSize(build(3)) - base) / 2f;
+        final int count = Math.max(1, 1 + Math.round((targetBytes - base) / perElement));
+        return build(count);
+    }
+
+    /**
+     * @param model the model.
+     * @return the size of the model when serialized by Jackson, in bytes.
+     */
+    public static int serializedSize(final TestModel model) {
+        try {
+            return MAPPER.writeValueAsBytes(model).length;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    abstract TestModel build(int count);
+
+    private static TestModel model(final List<String> list, final List<PolyBase> polyTypes) {
+        return new TestModel(
+                "payload", new BigDecimal("1.5"), TestModel.AnEnum.THIS, list, polyTypes);
+    }
+
+    /** Alternating poly types. Deterministic, so that serialized sizes are stable. */
+    private static List<PolyBase> polymorphic(final int count) {
+        final List<PolyBase> polyTypes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            polyTypes.add(i % 2 == 0 ? new PolyTypeA(new UUID(i, i)) : new PolyTypeB(12.34000005d));
+        }
+        return polyTypes;
+    }
+}
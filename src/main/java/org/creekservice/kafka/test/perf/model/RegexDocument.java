@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Generates JSON documents valid against the regex heavy schemas, i.e. {@code
+ * regex/regex-draft-*.json}.
+ *
+ * <p>Each record has strings matched against realistic patterns: ids, ISO codes, semantic versions
+ * and long alternations. Many of the strings are case-heavy, i.e. of mixed case, and each record
+ * has a set of distinct, mixed case, property names matched by {@code patternProperties}.
+ */
+public final class RegexDocument {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private static final List<String> COUNTRIES = List.of("GB", "US", "DE", "FR", "JP", "BR");
+    private static final List<String> CURRENCIES = List.of("GBP", "USD", "EUR", "JPY", "BRL");
+    private static final List<String> EVENTS =
+            List.of(
+                    "order.created",
+                    "order.shipped",
+                    "payment.authorized",
+                    "payment.refunded",
+                    "customer.verified",
+                    "inventory.adjusted",
+                    "shipment.in-transit");
+    private static final List<String> VERSIONS =
+            List.of(
+                    "1.0.0",
+                    "2.13.7-rc.1",
+                    "0.4.12+build.2024.01",
+                    "10.2.3-alpha.beta.7+sha.5114f85");
+
+    private RegexDocument() {}
+
+    /**
+     * Generate a document.
+     *
+     * @param records the number of records in the document.
+     * @return the JSON document.
+     */
+    public static String json(final int records) {
+        final ObjectNode root = MAPPER.createObjectNode();
+        final ArrayNode array = root.putArray("records");
+        for (int i = 0; i < records; i++) {
+            record(array.addObject(), i);
+        }
+
+        try {
+            return MAPPER.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void record(final ObjectNode record, final int i) {
+        final String id = new UUID(0x5A3BC1D2E4F64000L + i, 0x9ABCDEF012345678L + i).toString();
+        record.put("id", i % 2 == 0 ? id : id.toUpperCase(Locale.ROOT));
+        record.put("orderRef", "ORD-" + COUNTRIES.get(i % COUNTRIES.size()) + "-" + (1000000 + i));
+        record.put("country", COUNTRIES.get(i % COUNTRIES.size()));
+        record.put("currency", CURRENCIES.get(i % CURRENCIES.size()));
+        record.put("eventType", EVENTS.get(i % EVENTS.size()));
+        record.put("version", VERSIONS.get(i % VERSIONS.size()));
+        record.put("email", "Some.User" + i + "@Example-Mail.co.UK");
+        record.put(
+                "description", mixedCase("The Quick Brown Fox, Jumps Over The Lazy Dog. ", 4, i));
+
+        final ArrayNode tags = record.putArray("tags");
+        for (int t = 0; t < 5; t++) {
+            tags.add("tag-" + ((i + t) % 17));
+        }
+
+        final ObjectNode attributes = record.putObject("attributes");
+        for (int a = 0; a < 10; a++) {
+            attributes.put("x-" + mixedCase("CustomAttribute", 1, i + a), "value " + a);
+            attributes.put(COUNTRIES.get(a % COUNTRIES.size()) + "_" + (i + a), a);
+        }
+    }
+
+    /** Repeat {@code text}, flipping the case of characters, so that strings vary per record. */
+    private static String mixedCase(final String text, final int repeats, final int seed) {
+        final StringBuilder builder = new StringBuilder(text.length() * repeats);
+        for (int r = 0; r < repeats; r++) {
+            for (int c = 0; c < text.length(); c++) {
+                final char ch = text.charAt(c);
+                builder.append(
+                        (c + r + seed) % 3 == 0
+                                ? (Character.isUpperCase(ch)
+                                        ? Character.toLowerCase(ch)
+                                        : Character.toUpperCase(ch))
+                                : ch);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model.zoo;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+
+/** A deeply nested, recursive, record. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class DeepModel {
+
+    /** The number of levels of nesting in the instance returned by {@link #create()}. */
+    public static final int DEPTH = 32;
+
+    private final String name;
+    private final int level;
+    private final DeepModel child;
+
+    @JsonCreator
+    public DeepModel(
+            @JsonProperty(value = "name", required = true) final String name,
+            @JsonProperty(value = "level", required = true) final int level,
+            @JsonProperty("child") final DeepModel child) {
+        this.name = name;
+        this.level = level;
+        this.child = child;
+    }
+
+    /**
+     * @return an instance nested {@link #DEPTH} levels deep.
+     */
+    public static DeepModel create() {
+        DeepModel model = null;
+        for (int level = DEPTH - 1; level >= 0; level--) {
+            model = new DeepModel("level-" + level, level, model);
+        }
+        return model;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public DeepModel getChild() {
+        return child;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DeepModel that = (DeepModel) o;
+        return level == that.level
+                && Objects.equals(name, that.name)
+                && Objects.equals(child, that.child);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, level, child);
+    }
+}
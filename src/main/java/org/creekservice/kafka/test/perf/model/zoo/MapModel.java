@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model.zoo;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A map-like payload, i.e. an object whose property names are data, validated with {@code
+ * additionalProperties} rather than declared {@code properties}.
+ */
+public final class MapModel {
+
+    /** The number of entries in the instance returned by {@link #create()}. */
+    public static final int ENTRY_COUNT = 500;
+
+    private final String id;
+    private final Map<String, Value> values;
+
+    @JsonCreator
+    public MapModel(
+            @JsonProperty(value = "id", required = true) final String id,
+            @JsonProperty(value = "values", required = true) final Map<String, Value> values) {
+        this.id = id;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    /**
+     * @return an instance with {@link #ENTRY_COUNT} entries.
+     */
+    public static MapModel create() {
+        final Map<String, Value> values = new LinkedHashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            values.put("key-" + i, new Value(i, "label " + i));
+        }
+        return new MapModel("map-model", values);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Map<String, Value> getValues() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final MapModel that = (MapModel) o;
+        return Objects.equals(id, that.id) && Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, values);
+    }
+
+    public static final class Value {
+
+        private final int count;
+        private final String label;
+
+        @JsonCreator
+        public Value(
+                @JsonProperty(value = "count", required = true) final int count,
+                @JsonProperty(value = "label", required = true) final String label) {
+            this.count = count;
+            this.label = label;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Value that = (Value) o;
+            return count == that.count && Objects.equals(label, that.label);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, label);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model.zoo;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A heavily polymorphic payload: a list of variants, each of which must match exactly one of the
+ * eight branches of a {@code oneOf} in the schema.
+ */
+public final class VariantModel {
+
+    /** The number of variants in the instance returned by {@link #create()}. */
+    public static final int VARIANT_COUNT = 200;
+
+    private static final List<Variant> VARIANTS =
+            List.of(
+                    new Variant("variant-string", "some text"),
+                    new Variant("variant-integer", 42),
+                    new Variant("variant-number", 12.5d),
+                    new Variant("variant-boolean", true),
+                    new Variant("variant-array", List.of("a", "b", "c")),
+                    new Variant("variant-object", Map.of("a", "text", "b", 1)),
+                    new Variant("variant-date", "2024-01-31"),
+                    new Variant("variant-code", "ABC-1234"));
+
+    private final List<Variant> variants;
+
+    @JsonCreator
+    public VariantModel(
+            @JsonProperty(value = "variants", required = true) final List<Variant> variants) {
+        this.variants = List.copyOf(variants);
+    }
+
+    /**
+     * @return an instance with {@link #VARIANT_COUNT} variants, cycling through each type.
+     */
+    public static VariantModel create() {
+        final List<Variant> variants = new ArrayList<>(VARIANT_COUNT);
+        for (int i = 0; i < VARIANT_COUNT; i++) {
+            variants.add(VARIANTS.get(i % VARIANTS.size()));
+        }
+        return new VariantModel(variants);
+    }
+
+    public List<Variant> getVariants() {
+        return variants;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final VariantModel that = (VariantModel) o;
+        return Objects.equals(variants, that.variants);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variants);
+    }
+
+    public static final class Variant {
+
+        private final String type;
+        private final Object value;
+
+        @JsonCreator
+        public Variant(
+                @JsonProperty(value = "@type", required = true) final String type,
+                @JsonProperty(value = "value", required = true) final Object value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        @JsonProperty("@type")
+        public String getType() {
+            return type;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Variant that = (Variant) o;
+            return Objects.equals(type, that.type) && Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, value);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model.zoo;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/** A flat object with hundreds of properties, as found in wide, denormalised, records. */
+public final class WideModel {
+
+    /** The number of properties in the model, and in its schemas. */
+    public static final int PROPERTY_COUNT = 200;
+
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    /**
+     * @return an instance with all {@link #PROPERTY_COUNT} properties set.
+     */
+    public static WideModel create() {
+        final WideModel model = new WideModel();
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            model.set(propertyName(i), value(i));
+        }
+        return model;
+    }
+
+    /**
+     * @param index the index of the property.
+     * @return the name of the property at the supplied {@code index}.
+     */
+    public static String propertyName(final int index) {
+        return String.format("f%03d", index);
+    }
+
+    @JsonAnySetter
+    void set(final String name, final Object value) {
+        properties.put(name, value);
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getProperties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    private static Object value(final int index) {
+        switch (index % 4) {
+            case 0:
+                return "value-" + index;
+            case 1:
+                return index;
+            case 2:
+                return index + 0.5d;
+            default:
+                return (index / 4) % 2 == 0;
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final WideModel that = (WideModel) o;
+        return Objects.equals(properties, that.properties);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(properties);
+    }
+}
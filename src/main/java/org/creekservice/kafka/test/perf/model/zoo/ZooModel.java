@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model.zoo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+
+/**
+ * A zoo of model and schema pairs, each representing a different payload shape.
+ *
+ * <p>Each model has a draft-07 and a draft 2020-12 schema, found in the {@code zoo} resources
+ * directory.
+ */
+public enum ZooModel {
+    /** Hundreds of properties, see {@link WideModel}. */
+    WIDE("wide", WideModel.class, WideModel::create),
+    /** Deeply nested records, see {@link DeepModel}. */
+    DEEP("deep", DeepModel.class, DeepModel::create),
+    /** Properties validated by {@code additionalProperties}, see {@link MapModel}. */
+    MAP_LIKE("map-like", MapModel.class, MapModel::create),
+    /** Large {@code oneOf} unions, see {@link VariantModel}. */
+    POLYMORPHIC_HEAVY("polymorphic-heavy", VariantModel.class, VariantModel::create);
+
+    private final Class<?> type;
+    private final Object instance;
+    private final String draft7Schema;
+    private final String draft2020Schema;
+
+    ZooModel(final String name, final Class<?> type, final Supplier<?> factory) {
+        this.type = requireNonNull(type, "type");
+        this.instance = requireNonNull(factory.get(), "instance");
+        this.draft7Schema = TestSchemas.read("zoo/" + name + "-draft-7.json");
+        this.draft2020Schema = TestSchemas.read("zoo/" + name + "-draft-2020-12.json");
+    }
+
+    /**
+     * @return the type of the model.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * @return an instance of the model, valid against its schemas.
+     */
+    public Object instance() {
+        return instance;
+    }
+
+    /**
+     * @param spec the schema specification.
+     * @return the schema for the model.
+     * @throws UnsupportedOperationException if there is no schema for the supplied {@code spec}.
+     */
+    public String schema(final SchemaSpec spec) {
+        switch (spec) {
+            case DRAFT_07:
+                return draft7Schema;
+            case DRAFT_2020_12:
+                return draft2020Schema;
+            default:
+                throw new UnsupportedOperationException("No " + spec + " schema for " + this);
+        }
+    }
+}
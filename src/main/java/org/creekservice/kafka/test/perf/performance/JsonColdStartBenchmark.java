@@ -0,0 +1,232 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.performance.util.ColdStartAnalysis;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for validation latency in a freshly started JVM.
+ *
+ * <p>Each fork runs without warmup, timing each of its first validations of a serialized {@link
+ * ModelState#TEST_MODEL} as a separate single shot iteration. The first iteration of each fork
+ * also includes loading the implementation's classes and preparing the validator.
+ *
+ * <p>The {@link ColdStartAnalysis} adds the following metrics to the results:
+ *
+ * <ul>
+ *   <li>{@code coldStart}: the time to prepare and run the first validation.
+ *   <li>{@code steadyState}: the time per validation at the end of the run.
+ *   <li>{@code warmUpOps}: the number of validations before the time per validation settles near
+ *       {@code steadyState}.
+ *   <li>{@code warmUpTime}: the total time taken by those validations, including the first.
+ * </ul>
+ *
+ * <p>Benchmark methods should be added for Draft_7, or Draft_2020_12 if Draft_7 is not supported,
+ * for each implementation.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Threads(1)
+@Fork(10) // Note: to debug, set fork to 0.
+@Warmup(iterations = 0)
+@Measurement(iterations = 2000)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonColdStartBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    @State(Scope.Thread)
+    abstract static class ColdStartState {
+
+        private final Supplier<Implementation> factory;
+        private final SchemaSpec spec;
+        private final String schema;
+        private byte[] json;
+        private JsonValidator validator;
+
+        ColdStartState(final Supplier<Implementation> factory, final SchemaSpec spec) {
+            this.factory = factory;
+            this.spec = spec;
+            this.schema =
+                    spec == SchemaSpec.DRAFT_07
+                            ? TestSchemas.DRAFT_7_SCHEMA
+                            : TestSchemas.DRAFT_2020_SCHEMA;
+        }
+
+        @Setup
+        public void setUp() {
+            // Read from a resource, as serializing the model would warm up Jackson, which many of
+            // the implementations use:
+            json = TestSchemas.read("cold-start/test-model.json").getBytes(UTF_8);
+        }
+
+        public void validate() {
+            if (validator == null) {
+                final AdditionalSchemas additionalSchemas =
+                        new AdditionalSchemas(Map.of(), Path.of(""));
+                validator = factory.get().prepare(schema, spec, additionalSchemas, false);
+            }
+            validator.validate(json);
+        }
+    }
+
+    public static class MedeiaColdStart extends ColdStartState {
+        public MedeiaColdStart() {
+            super(MedeiaImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Medeia(final MedeiaColdStart state) {
+        state.validate();
+    }
+
+    public static class EveritColdStart extends ColdStartState {
+        public EveritColdStart() {
+            super(EveritImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Everit(final EveritColdStart state) {
+        state.validate();
+    }
+
+    public static class SkemaColdStart extends ColdStartState {
+        public SkemaColdStart() {
+            super(SkemaImplementation::new, SchemaSpec.DRAFT_2020_12);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_Skema(final SkemaColdStart state) {
+        state.validate();
+    }
+
+    public static class VertxColdStart extends ColdStartState {
+        public VertxColdStart() {
+            super(VertxImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Vertx(final VertxColdStart state) {
+        state.validate();
+    }
+
+    public static class SchemaFriendColdStart extends ColdStartState {
+        public SchemaFriendColdStart() {
+            super(SchemaFriendImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_SchemaFriend(final SchemaFriendColdStart state) {
+        state.validate();
+    }
+
+    public static class NetworkNtColdStart extends ColdStartState {
+        public NetworkNtColdStart() {
+            super(NetworkNtImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_NetworkNt(final NetworkNtColdStart state) {
+        state.validate();
+    }
+
+    public static class SnowColdStart extends ColdStartState {
+        public SnowColdStart() {
+            super(SnowImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Snow(final SnowColdStart state) {
+        state.validate();
+    }
+
+    public static class JustifyColdStart extends ColdStartState {
+        public JustifyColdStart() {
+            super(JustifyImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Justify(final JustifyColdStart state) {
+        state.validate();
+    }
+
+    public static class DevHarrelColdStart extends ColdStartState {
+        public DevHarrelColdStart() {
+            super(DevHarrelImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_DevHarrel(final DevHarrelColdStart state) {
+        state.validate();
+    }
+
+    public static class Sjf4jColdStart extends ColdStartState {
+        public Sjf4jColdStart() {
+            super(Sjf4jImplementation::new, SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_SJF4J(final Sjf4jColdStart state) {
+        state.validate();
+    }
+}
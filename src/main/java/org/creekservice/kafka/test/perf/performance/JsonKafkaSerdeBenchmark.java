@@ -0,0 +1,297 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.json.JsonSchema;
+import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.JacksonImplementation;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.serde.ValidatingDeserializer;
+import org.creekservice.kafka.test.perf.serde.ValidatingSerializer;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark results for JSON Serde via Kafka serializers and deserializers.
+ *
+ * <p>Where {@link JsonSerdeBenchmark} measures a bare serialize/deserialize round trip, this
+ * benchmark measures the whole per-record path of a Kafka client: each implementation is wrapped
+ * in a Kafka {@link org.apache.kafka.common.serialization.Serializer} and {@link
+ * org.apache.kafka.common.serialization.Deserializer} that use the Confluent wire format, i.e. a
+ * magic byte and schema id prefix, and resolve schemas through a {@link MockSchemaRegistryClient}.
+ * The cost of registry lookups, schema caching and framing is therefore included.
+ *
+ * <p>The model and schemas are the same as those used by {@link JsonSerdeBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(6) // Note: to debug, set fork to 0.
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonKafkaSerdeBenchmark {
+
+    private static final String TOPIC = "some-topic";
+
+    static {
+        Logging.disable();
+    }
+
+    public static class JacksonKafka extends KafkaSerdeState {
+        public JacksonKafka() {
+            super(new JacksonImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Jackson(final JacksonKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Jackson(final JacksonKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaKafka extends KafkaSerdeState {
+        public MedeiaKafka() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Medeia(final MedeiaKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritKafka extends KafkaSerdeState {
+        public EveritKafka() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Everit(final EveritKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaKafka extends KafkaSerdeState {
+        public SkemaKafka() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Skema(final SkemaKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxKafka extends KafkaSerdeState {
+        public VertxKafka() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Vertx(final VertxKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Vertx(final VertxKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendKafka extends KafkaSerdeState {
+        public SchemaFriendKafka() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_SchemaFriend(
+            final SchemaFriendKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtKafka extends KafkaSerdeState {
+        public NetworkNtKafka() {
+            super(new NetworkNtImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_NetworkNt(final NetworkNtKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_NetworkNt(
+            final NetworkNtKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowKafka extends KafkaSerdeState {
+        public SnowKafka() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Snow(final SnowKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyKafka extends KafkaSerdeState {
+        public JustifyKafka() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Justify(final JustifyKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelKafka extends KafkaSerdeState {
+        public DevHarrelKafka() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_DevHarrel(final DevHarrelKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_DevHarrel(
+            final DevHarrelKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jKafka extends KafkaSerdeState {
+        public Sjf4jKafka() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_SJF4J(final Sjf4jKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_SJF4J(final Sjf4jKafka impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @State(Scope.Thread)
+    static class KafkaSerdeState {
+
+        private final Map<SchemaSpec, Serde<TestModel>> serdes = new EnumMap<>(SchemaSpec.class);
+        private final Map<SchemaSpec, String> topics = new EnumMap<>(SchemaSpec.class);
+
+        KafkaSerdeState(final Implementation impl) {
+            final SchemaRegistryClient registry =
+                    new MockSchemaRegistryClient(List.of(new JsonSchemaProvider()));
+
+            if (impl.supports(SchemaSpec.DRAFT_07)) {
+                serdes.put(
+                        SchemaSpec.DRAFT_07,
+                        serde(impl, registry, TestSchemas.DRAFT_7_SCHEMA, SchemaSpec.DRAFT_07));
+            }
+
+            if (impl.supports(SchemaSpec.DRAFT_2020_12)) {
+                serdes.put(
+                        SchemaSpec.DRAFT_2020_12,
+                        serde(
+                                impl,
+                                registry,
+                                TestSchemas.DRAFT_2020_SCHEMA,
+                                SchemaSpec.DRAFT_2020_12));
+            }
+
+            // Separate topics, and hence subjects, for each draft's schema:
+            serdes.keySet().forEach(spec -> topics.put(spec, TOPIC + "-" + spec.ordinal()));
+        }
+
+        public TestModel roundTrip(final ModelState model, final SchemaSpec version) {
+            final Serde<TestModel> serde = serdes.get(version);
+            if (serde == null) {
+                throw new UnsupportedOperationException(
+                        "Implementation does not support " + version);
+            }
+
+            final String topic = topics.get(version);
+            final byte[] serialized = serde.serializer().serialize(topic, model.model);
+            return serde.deserializer().deserialize(topic, serialized);
+        }
+
+        private static Serde<TestModel> serde(
+                final Implementation impl,
+                final SchemaRegistryClient registry,
+                final String schema,
+                final SchemaSpec spec) {
+            final ParsedSchema parsed = new JsonSchema(schema);
+            final Implementation.JsonValidator validator =
+                    impl.prepare(schema, spec, new AdditionalSchemas(Map.of(), Path.of("")), false);
+
+            return Serdes.serdeFrom(
+                    new ValidatingSerializer(registry, parsed, validator),
+                    new ValidatingDeserializer(registry, impl, spec));
+        }
+    }
+}
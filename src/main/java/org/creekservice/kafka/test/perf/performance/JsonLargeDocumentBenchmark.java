@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.creekservice.kafka.test.perf.model.LargeDocument;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.DevHarrelState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.EveritState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.ImplementationState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.JustifyState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.MedeiaState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.NetworkNtState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.SchemaFriendState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.Sjf4jState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.SkemaState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.SnowState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.VertxState;
+import org.creekservice.kafka.test.perf.performance.util.LargeDocumentProfiler;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark results for JSON Schema validation of large documents.
+ *
+ * <p>The benchmark validates generated documents of increasing size, streamed to each validator via
+ * {@code JsonValidator.validate(InputStream)}. Implementations that can validate a document as it
+ * is read need far less heap than those that first build an in-memory tree.
+ *
+ * <p>Run with the {@link LargeDocumentProfiler} to report the data throughput, in MB/s, and the
+ * heap usage of each implementation. Larger documents can be tested by overriding the {@value
+ * LargeDocumentProfiler#SIZE_PARAM} parameter, e.g. {@code -p documentSizeMb=1,10,100,500}, though
+ * implementations that build a tree may then need a larger heap.
+ *
+ * <p>The document structure is simple, so results vary little between drafts. Benchmark methods
+ * are only added for one draft per implementation: Draft_07 where supported, otherwise
+ * Draft_2020_12.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(SECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g") // Note: to debug, set fork to 0.
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonLargeDocumentBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    @State(Scope.Benchmark)
+    public static class DocumentState {
+
+        @Param({"1", "10", "100"})
+        public int documentSizeMb;
+
+        private LargeDocument document;
+
+        @Setup
+        public void setUp() {
+            document = new LargeDocument(documentSizeMb * 1024L * 1024L);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Medeia(final MedeiaState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Everit(final EveritState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_Skema(final SkemaState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Vertx(final VertxState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_SchemaFriend(
+            final SchemaFriendState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_NetworkNt(final NetworkNtState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Snow(final SnowState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Justify(final JustifyState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_DevHarrel(final DevHarrelState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_SJF4J(final Sjf4jState impl, final DocumentState doc) {
+        validate(impl, doc, SchemaSpec.DRAFT_07);
+    }
+
+    private static void validate(
+            final ImplementationState impl, final DocumentState doc, final SchemaSpec version) {
+        try (InputStream json = doc.document.open()) {
+            impl.validator(version).validate(json);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
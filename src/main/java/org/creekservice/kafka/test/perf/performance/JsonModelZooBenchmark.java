@@ -0,0 +1,319 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.implementations.ConfluentImplementation;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.JacksonImplementation;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.zoo.ZooModel;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark results for JSON Serde across a zoo of payload shapes.
+ *
+ * <p>Where {@link JsonSerdeBenchmark} uses a single model, this benchmark round trips each of the
+ * models in {@link ZooModel}: wide objects, deeply nested records, map-like payloads and heavily
+ * polymorphic unions. The {@code model} parameter selects the model.
+ *
+ * <p>The {@link JsonValidator} serde methods are specific to the {@code TestModel}, so the zoo
+ * models are (de)serialized by Jackson, and the JSON validated with {@link
+ * JsonValidator#validate(byte[])}, once after serializing and once before deserializing. Costs
+ * for implementations that bind to their own model, rather than Jackson, may therefore differ
+ * from those in {@link JsonSerdeBenchmark}.
+ *
+ * <p>Benchmark methods should be added for Draft_7 and Draft_2020_12 for each implementation that
+ * supports them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(2) // Note: to debug, set fork to 0.
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonModelZooBenchmark {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+    private static final List<SchemaSpec> SPECS =
+            List.of(SchemaSpec.DRAFT_07, SchemaSpec.DRAFT_2020_12);
+
+    static {
+        Logging.disable();
+    }
+
+    /** The model under test. */
+    @State(Scope.Benchmark)
+    public static class ZooModelState {
+
+        @Param public ZooModel model;
+    }
+
+    public static class JacksonZoo extends ZooState {
+        public JacksonZoo() {
+            super(new JacksonImplementation());
+        }
+
+        @Override
+        protected void validate(final JsonValidator validator, final byte[] json) {
+            // Baseline: no validation.
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Jackson(final JacksonZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Jackson(final JacksonZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class ConfluentZoo extends ZooState {
+        public ConfluentZoo() {
+            super(new ConfluentImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Confluent(final ConfluentZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Confluent(
+            final ConfluentZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaZoo extends ZooState {
+        public MedeiaZoo() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Medeia(final MedeiaZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritZoo extends ZooState {
+        public EveritZoo() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Everit(final EveritZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaZoo extends ZooState {
+        public SkemaZoo() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Skema(final SkemaZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxZoo extends ZooState {
+        public VertxZoo() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Vertx(final VertxZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Vertx(final VertxZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendZoo extends ZooState {
+        public SchemaFriendZoo() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_SchemaFriend(
+            final SchemaFriendZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtZoo extends ZooState {
+        public NetworkNtZoo() {
+            super(new NetworkNtImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_NetworkNt(final NetworkNtZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_NetworkNt(
+            final NetworkNtZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowZoo extends ZooState {
+        public SnowZoo() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Snow(final SnowZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyZoo extends ZooState {
+        public JustifyZoo() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Justify(final JustifyZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelZoo extends ZooState {
+        public DevHarrelZoo() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_DevHarrel(final DevHarrelZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_DevHarrel(
+            final DevHarrelZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jZoo extends ZooState {
+        public Sjf4jZoo() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_SJF4J(final Sjf4jZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_SJF4J(final Sjf4jZoo impl, final ZooModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @State(Scope.Thread)
+    abstract static class ZooState {
+
+        private final Implementation impl;
+        private final Map<SchemaSpec, JsonValidator> validators = new EnumMap<>(SchemaSpec.class);
+
+        ZooState(final Implementation impl) {
+            this.impl = impl;
+        }
+
+        @Setup
+        public void setUp(final ZooModelState zoo) {
+            for (final SchemaSpec spec : SPECS) {
+                if (impl.supports(spec)) {
+                    validators.put(
+                            spec,
+                            impl.prepare(
+                                    zoo.model.schema(spec),
+                                    spec,
+                                    new AdditionalSchemas(Map.of(), Path.of("")),
+                                    false));
+                }
+            }
+        }
+
+        public Object roundTrip(final ZooModelState zoo, final SchemaSpec version) {
+            final JsonValidator validator = validators.get(version);
+            if (validator == null) {
+                throw new UnsupportedOperationException(
+                        "Implementation does not support " + version);
+            }
+
+            try {
+                final byte[] json = MAPPER.writeValueAsBytes(zoo.model.instance());
+                validate(validator, json);
+
+                validate(validator, json);
+                return MAPPER.readValue(json, zoo.model.type());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        protected void validate(final JsonValidator validator, final byte[] json) {
+            validator.validate(json);
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.creekservice.kafka.test.perf.performance.JsonValidateBenchmark.TEST_SUITE;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for preparing JSON Schema validators, i.e. schema compilation.
+ *
+ * <p>Each operation calls {@link Implementation#prepare} once for the schema of every file in the
+ * <a href="https://github.com/json-schema-org/JSON-Schema-Test-Suite">standard set of tests</a>
+ * for a draft, and, for Draft_7 and Draft_2020_12, once for the schema used by the {@link
+ * JsonSerdeBenchmark}. Schemas an implementation fails to prepare are excluded.
+ *
+ * <p>The results show the average time it takes each impl to prepare all schemas, per draft, and
+ * complement the results of the {@link JsonValidateBenchmark}, which excludes this cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(2) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+@SuppressWarnings("MethodName")
+public class JsonPrepareBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    public static class MedeiaCompiler extends PrepareState {
+
+        public MedeiaCompiler() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_04_Medeia(final MedeiaCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_06_Medeia(final MedeiaCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_Medeia(final MedeiaCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritCompiler extends PrepareState {
+
+        public EveritCompiler() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_04_Everit(final EveritCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_06_Everit(final EveritCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_Everit(final EveritCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaCompiler extends PrepareState {
+
+        public SkemaCompiler() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2020_12_Skema(final SkemaCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxCompiler extends PrepareState {
+
+        public VertxCompiler() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_04_Vertx(final VertxCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_Vertx(final VertxCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2019_09_Vertx(final VertxCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2020_12_Vertx(final VertxCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendCompiler extends PrepareState {
+
+        public SchemaFriendCompiler() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_03_SchemaFriend(final SchemaFriendCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_03);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_04_SchemaFriend(final SchemaFriendCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_06_SchemaFriend(final SchemaFriendCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_SchemaFriend(final SchemaFriendCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2019_09_SchemaFriend(
+            final SchemaFriendCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtCompiler extends PrepareState {
+
+        public NetworkNtCompiler() {
+            super(new NetworkNtImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_04_NetworkNt(final NetworkNtCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_06_NetworkNt(final NetworkNtCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_NetworkNt(final NetworkNtCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2019_09_NetworkNt(final NetworkNtCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2020_12_NetworkNt(final NetworkNtCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowCompiler extends PrepareState {
+
+        public SnowCompiler() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_06_Snow(final SnowCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_Snow(final SnowCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2019_09_Snow(final SnowCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2019_09);
+    }
+
+    public static class JustifyCompiler extends PrepareState {
+
+        public JustifyCompiler() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_04_Justify(final JustifyCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_06_Justify(final JustifyCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_Justify(final JustifyCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelCompiler extends PrepareState {
+
+        public DevHarrelCompiler() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_DevHarrel(final DevHarrelCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2019_09_DevHarrel(final DevHarrelCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2020_12_DevHarrel(final DevHarrelCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jCompiler extends PrepareState {
+
+        public Sjf4jCompiler() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_07_SJF4J(final Sjf4jCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2019_09_SJF4J(final Sjf4jCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public List<JsonValidator> measureDraft_2020_12_SJF4J(final Sjf4jCompiler compiler) {
+        return compiler.prepare(SchemaSpec.DRAFT_2020_12);
+    }
+
+    @State(Scope.Benchmark)
+    abstract static class PrepareState {
+
+        private final Implementation impl;
+        private final Map<SchemaSpec, List<Supplier<JsonValidator>>> compilations =
+                new EnumMap<>(SchemaSpec.class);
+
+        PrepareState(final Implementation impl) {
+            this.impl = impl;
+        }
+
+        @Setup
+        public void setUp() {
+            final AdditionalSchemas additionalSchemas =
+                    new AdditionalSchemas(Map.of(), Path.of(""));
+
+            for (final SchemaSpec spec : SchemaSpec.values()) {
+                if (!impl.supports(spec)) {
+                    continue;
+                }
+
+                final List<Supplier<JsonValidator>> specCompilations =
+                        new ArrayList<>(TEST_SUITE.prepareSchemas(impl, spec));
+
+                if (spec == SchemaSpec.DRAFT_07) {
+                    specCompilations.add(
+                            () ->
+                                    impl.prepare(
+                                            TestSchemas.DRAFT_7_SCHEMA,
+                                            spec,
+                                            additionalSchemas,
+                                            false));
+                } else if (spec == SchemaSpec.DRAFT_2020_12) {
+                    specCompilations.add(
+                            () ->
+                                    impl.prepare(
+                                            TestSchemas.DRAFT_2020_SCHEMA,
+                                            spec,
+                                            additionalSchemas,
+                                            false));
+                }
+
+                compilations.put(spec, List.copyOf(specCompilations));
+            }
+        }
+
+        public List<JsonValidator> prepare(final SchemaSpec spec) {
+            final List<Supplier<JsonValidator>> specCompilations = compilations.get(spec);
+            final List<JsonValidator> validators = new ArrayList<>(specCompilations.size());
+            for (final Supplier<JsonValidator> compilation : specCompilations) {
+                validators.add(compilation.get());
+            }
+            return validators;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.implementations.ConfluentImplementation;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaComplexity;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for JSON validation as schema complexity increases.
+ *
+ * <p>Validates a small document against generated schemas of increasing complexity. The {@code
+ * dimension} parameter controls which aspect of the schema grows, e.g. {@code $ref} depth or
+ * {@code oneOf} fan-out, and the {@code complexity} parameter how far it grows. See {@link
+ * SchemaComplexity} for details.
+ *
+ * <p>The time taken to prepare the same schemas is measured by {@link
+ * JsonSchemaComplexityPrepareBenchmark}.
+ *
+ * <p>Benchmark methods should be added for Draft_7 and Draft_2020_12 for each implementation that
+ * supports them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(1) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonSchemaComplexityBenchmark {
+
+    private static final List<SchemaSpec> SPECS =
+            List.of(SchemaSpec.DRAFT_07, SchemaSpec.DRAFT_2020_12);
+
+    static {
+        Logging.disable();
+    }
+
+    /** The complexity of the generated schemas. */
+    @State(Scope.Benchmark)
+    public static class ComplexityParams {
+
+        @Param public SchemaComplexity dimension;
+
+        @Param({"1", "4", "16", "64", "256"})
+        public int complexity;
+    }
+
+    public static class ConfluentComplexity extends ComplexityState {
+        public ConfluentComplexity() {
+            super(new ConfluentImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Confluent(final ConfluentComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Confluent(final ConfluentComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaComplexity extends ComplexityState {
+        public MedeiaComplexity() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Medeia(final MedeiaComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritComplexity extends ComplexityState {
+        public EveritComplexity() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Everit(final EveritComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaComplexity extends ComplexityState {
+        public SkemaComplexity() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Skema(final SkemaComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxComplexity extends ComplexityState {
+        public VertxComplexity() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Vertx(final VertxComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Vertx(final VertxComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendComplexity extends ComplexityState {
+        public SchemaFriendComplexity() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_SchemaFriend(final SchemaFriendComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_SchemaFriend(final SchemaFriendComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtComplexity extends ComplexityState {
+        public NetworkNtComplexity() {
+            super(new NetworkNtImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_NetworkNt(final NetworkNtComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_NetworkNt(final NetworkNtComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowComplexity extends ComplexityState {
+        public SnowComplexity() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Snow(final SnowComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyComplexity extends ComplexityState {
+        public JustifyComplexity() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Justify(final JustifyComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelComplexity extends ComplexityState {
+        public DevHarrelComplexity() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_DevHarrel(final DevHarrelComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_DevHarrel(final DevHarrelComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jComplexity extends ComplexityState {
+        public Sjf4jComplexity() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_SJF4J(final Sjf4jComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_SJF4J(final Sjf4jComplexity impl) {
+        return measure(impl, SchemaSpec.DRAFT_2020_12);
+    }
+
+    /**
+     * Measure the implementation against the generated schema.
+     *
+     * <p>Validates the document. Subclasses can override to measure something else.
+     *
+     * @param state the implementation state.
+     * @param spec the schema specification.
+     * @return a result, to avoid dead code elimination.
+     */
+    protected Object measure(final ComplexityState state, final SchemaSpec spec) {
+        final JsonValidator validator = state.validator(spec);
+        validator.validate(state.document);
+        return validator;
+    }
+
+    @State(Scope.Thread)
+    abstract static class ComplexityState {
+
+        private final Implementation impl;
+        private final Map<SchemaSpec, String> schemas = new EnumMap<>(SchemaSpec.class);
+        private final Map<SchemaSpec, JsonValidator> validators = new EnumMap<>(SchemaSpec.class);
+        private String document;
+
+        ComplexityState(final Implementation impl) {
+            this.impl = impl;
+        }
+
+        @Setup
+        public void setUp(final ComplexityParams params) {
+            document = params.dimension.document(params.complexity);
+
+            for (final SchemaSpec spec : SPECS) {
+                if (impl.supports(spec)) {
+                    schemas.put(spec, params.dimension.schema(spec, params.complexity));
+                    validators.put(spec, prepare(spec));
+                }
+            }
+        }
+
+        JsonValidator prepare(final SchemaSpec spec) {
+            return impl.prepare(
+                    schema(spec), spec, new AdditionalSchemas(Map.of(), Path.of("")), false);
+        }
+
+        JsonValidator validator(final SchemaSpec spec) {
+            final JsonValidator validator = validators.get(spec);
+            if (validator == null) {
+                throw new UnsupportedOperationException("Implementation does not support " + spec);
+            }
+            return validator;
+        }
+
+        private String schema(final SchemaSpec spec) {
+            final String schema = schemas.get(spec);
+            if (schema == null) {
+                throw new UnsupportedOperationException("Implementation does not support " + spec);
+            }
+            return schema;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+
+/**
+ * Benchmark results for JSON schema preparation as schema complexity increases.
+ *
+ * <p>Runs the same benchmarks as {@link JsonSchemaComplexityBenchmark}, but measures the time taken
+ * to prepare a validator from each generated schema, rather than the time to validate.
+ */
+public class JsonSchemaComplexityPrepareBenchmark extends JsonSchemaComplexityBenchmark {
+
+    @Override
+    protected Object measure(final ComplexityState state, final SchemaSpec spec) {
+        return state.prepare(spec);
+    }
+}
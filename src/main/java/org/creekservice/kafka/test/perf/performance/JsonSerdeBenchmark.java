@@ -18,8 +18,10 @@ package org.creekservice.kafka.test.perf.performance;
 
 import static java.util.concurrent.TimeUnit.MICROSECONDS;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.Map;
+import org.creekservice.kafka.test.perf.implementations.ConfluentImplementation;
 import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
 import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
 import org.creekservice.kafka.test.perf.implementations.Implementation;
@@ -81,12 +83,29 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_Jackson(final JacksonState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public TestModel measureDraft_2020_12_Jackson(final JacksonState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class ConfluentState extends ImplementationState {
+        public ConfluentState() {
+            super(new ConfluentImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Confluent(final ConfluentState impl, final ModelState model) {
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Confluent(
+            final ConfluentState impl, final ModelState model) {
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class MedeiaState extends ImplementationState {
@@ -97,7 +116,7 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_Medeia(final MedeiaState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     public static class EveritState extends ImplementationState {
@@ -108,7 +127,7 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_Everit(final EveritState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     public static class SkemaState extends ImplementationState {
@@ -119,7 +138,7 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_2020_12_Skema(final SkemaState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class VertxState extends ImplementationState {
@@ -130,12 +149,12 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_Vertx(final VertxState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public TestModel measureDraft_2020_12_Vertx(final VertxState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class SchemaFriendState extends ImplementationState {
@@ -147,13 +166,13 @@ public class JsonSerdeBenchmark {
     @Benchmark
     public TestModel measureDraft_07_SchemaFriend(
             final SchemaFriendState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public TestModel measureDraft_2020_12_SchemaFriend(
             final SchemaFriendState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class NetworkNtState extends ImplementationState {
@@ -164,13 +183,13 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_NetworkNt(final NetworkNtState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public TestModel measureDraft_2020_12_NetworkNt(
             final NetworkNtState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class SnowState extends ImplementationState {
@@ -181,7 +200,7 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_Snow(final SnowState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     public static class JustifyState extends ImplementationState {
@@ -192,7 +211,7 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_Justify(final JustifyState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     public static class DevHarrelState extends ImplementationState {
@@ -203,13 +222,13 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_DevHarrel(final DevHarrelState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public TestModel measureDraft_2020_12_DevHarrel(
             final DevHarrelState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class Sjf4jState extends ImplementationState {
@@ -220,25 +239,49 @@ public class JsonSerdeBenchmark {
 
     @Benchmark
     public TestModel measureDraft_07_SJF4J(final Sjf4jState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public TestModel measureDraft_2020_12_SJF4J(final Sjf4jState impl, final ModelState model) {
-        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+        return roundTrip(impl, model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    /**
+     * Round trip the model through the implementation.
+     *
+     * <p>Subclasses can override to change how the serialized JSON is passed back to the
+     * implementation.
+     *
+     * @param impl the implementation under test.
+     * @param model the model to round trip.
+     * @param version the schema version to use.
+     * @return the deserialized model.
+     */
+    protected TestModel roundTrip(
+            final ImplementationState impl, final ModelState model, final SchemaSpec version) {
+        return impl.roundTrip(model, version);
     }
 
     @State(Scope.Thread)
-    private static class ImplementationState {
+    static class ImplementationState {
 
         private final Implementation.JsonValidator validator07;
         private final Implementation.JsonValidator validator2020;
+        private ByteBuffer directBuffer = ByteBuffer.allocateDirect(0);
 
         ImplementationState(final Implementation impl) {
+            this(impl, TestSchemas.DRAFT_7_SCHEMA, TestSchemas.DRAFT_2020_SCHEMA);
+        }
+
+        ImplementationState(
+                final Implementation impl,
+                final String draft7Schema,
+                final String draft2020Schema) {
             this.validator07 =
                     impl.supports(SchemaSpec.DRAFT_07)
                             ? impl.prepare(
-                                    TestSchemas.DRAFT_7_SCHEMA,
+                                    draft7Schema,
                                     SchemaSpec.DRAFT_07,
                                     new AdditionalSchemas(Map.of(), Path.of("")),
                                     false)
@@ -247,7 +290,7 @@ public class JsonSerdeBenchmark {
             this.validator2020 =
                     impl.supports(SchemaSpec.DRAFT_2020_12)
                             ? impl.prepare(
-                                    TestSchemas.DRAFT_2020_SCHEMA,
+                                    draft2020Schema,
                                     SchemaSpec.DRAFT_2020_12,
                                     new AdditionalSchemas(Map.of(), Path.of("")),
                                     false)
@@ -260,7 +303,25 @@ public class JsonSerdeBenchmark {
             return validator.deserialize(serialized);
         }
 
-        private Implementation.JsonValidator validator(final SchemaSpec version) {
+        public TestModel roundTripDirect(final ModelState model, final SchemaSpec version) {
+            final Implementation.JsonValidator validator = validator(version);
+            final byte[] serialized = validator.serialize(model.model, true);
+            return validator.deserialize(toDirect(serialized));
+        }
+
+        /**
+         * Copy the data into a reused direct buffer, simulating a payload read from the network.
+         */
+        private ByteBuffer toDirect(final byte[] data) {
+            if (directBuffer.capacity() < data.length) {
+                directBuffer = ByteBuffer.allocateDirect(data.length);
+            }
+            directBuffer.clear();
+            directBuffer.put(data);
+            return directBuffer.flip();
+        }
+
+        Implementation.JsonValidator validator(final SchemaSpec version) {
             switch (version) {
                 case DRAFT_07:
                     if (validator07 == null) {
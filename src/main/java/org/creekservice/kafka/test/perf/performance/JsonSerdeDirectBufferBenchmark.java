@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+
+/**
+ * Benchmark results for JSON Serde, where the serialized JSON is deserialized from a direct, i.e.
+ * off-heap, {@link java.nio.ByteBuffer}.
+ *
+ * <p>Runs the same benchmarks as {@link JsonSerdeBenchmark}, but deserializes via {@code
+ * JsonValidator.deserialize(ByteBuffer)}, as consumers that hold record values in direct buffers
+ * would. This shows the difference between implementations that stream the buffer into their
+ * parser and those that first copy the whole buffer to a heap array. Neither is zero-copy:
+ * streaming still copies the data, in chunks, into the parser's own read buffers.
+ *
+ * <p>The cost of copying the serialized JSON into the direct buffer is included in the results, but
+ * is the same for all implementations.
+ */
+public class JsonSerdeDirectBufferBenchmark extends JsonSerdeBenchmark {
+
+    @Override
+    protected TestModel roundTrip(
+            final ImplementationState impl, final ModelState model, final SchemaSpec version) {
+        return impl.roundTripDirect(model, version);
+    }
+}
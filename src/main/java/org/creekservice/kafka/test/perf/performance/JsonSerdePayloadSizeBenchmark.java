@@ -0,0 +1,321 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.creekservice.kafka.test.perf.implementations.ConfluentImplementation;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.JacksonImplementation;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.model.PayloadShape;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.ImplementationState;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for JSON Serde as the size of the payload increases.
+ *
+ * <p>Runs the same round trip as {@link JsonSerdeBenchmark}, but with models scaled to payloads of
+ * between 200 bytes and 2 MB. The {@code shape} parameter controls which aspect of the model is
+ * scaled up, see {@link PayloadShape}.
+ *
+ * <p>As well as the time per operation, the {@code bytes} secondary metric reports the time per
+ * byte of serialized payload, allowing the cost per KB to be compared across payload sizes.
+ *
+ * <p>Benchmark methods should be added for Draft_7 and Draft_2020_12 for each implementation that
+ * supports them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(1) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonSerdePayloadSizeBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    /** The model, scaled to the target payload size. */
+    @State(Scope.Benchmark)
+    public static class PayloadModelState extends ModelState {
+
+        @Param({"200", "2000", "20000", "200000", "2000000"})
+        public int payloadBytes;
+
+        @Param public PayloadShape shape;
+
+        private int serializedBytes;
+
+        @Setup
+        public void setUp() {
+            model = shape.model(payloadBytes);
+            serializedBytes = PayloadShape.serializedSize(model);
+        }
+    }
+
+    /** Counts the bytes round tripped, from which JMH derives the time per byte. */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class BytesCounter {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Prepares validators with the payload schemas, which only differ from the schemas used by
+     * {@link JsonSerdeBenchmark} in allowing enough polymorphic items for the largest payloads.
+     */
+    abstract static class PayloadImplementationState extends ImplementationState {
+        PayloadImplementationState(final Implementation impl) {
+            super(impl, TestSchemas.PAYLOAD_DRAFT_7_SCHEMA, TestSchemas.PAYLOAD_DRAFT_2020_SCHEMA);
+        }
+    }
+
+    public static class JacksonPayload extends PayloadImplementationState {
+        public JacksonPayload() {
+            super(new JacksonImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Jackson(
+            final JacksonPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Jackson(
+            final JacksonPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class ConfluentPayload extends PayloadImplementationState {
+        public ConfluentPayload() {
+            super(new ConfluentImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Confluent(
+            final ConfluentPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Confluent(
+            final ConfluentPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaPayload extends PayloadImplementationState {
+        public MedeiaPayload() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Medeia(
+            final MedeiaPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritPayload extends PayloadImplementationState {
+        public EveritPayload() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Everit(
+            final EveritPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaPayload extends PayloadImplementationState {
+        public SkemaPayload() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Skema(
+            final SkemaPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxPayload extends PayloadImplementationState {
+        public VertxPayload() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Vertx(
+            final VertxPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Vertx(
+            final VertxPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendPayload extends PayloadImplementationState {
+        public SchemaFriendPayload() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_SchemaFriend(
+            final SchemaFriendPayload impl,
+            final PayloadModelState model,
+            final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendPayload impl,
+            final PayloadModelState model,
+            final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtPayload extends PayloadImplementationState {
+        public NetworkNtPayload() {
+            super(new NetworkNtImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_NetworkNt(
+            final NetworkNtPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_NetworkNt(
+            final NetworkNtPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowPayload extends PayloadImplementationState {
+        public SnowPayload() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Snow(
+            final SnowPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyPayload extends PayloadImplementationState {
+        public JustifyPayload() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Justify(
+            final JustifyPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelPayload extends PayloadImplementationState {
+        public DevHarrelPayload() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_DevHarrel(
+            final DevHarrelPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_DevHarrel(
+            final DevHarrelPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jPayload extends PayloadImplementationState {
+        public Sjf4jPayload() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_SJF4J(
+            final Sjf4jPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_SJF4J(
+            final Sjf4jPayload impl, final PayloadModelState model, final BytesCounter bytes) {
+        return roundTrip(impl, model, bytes, SchemaSpec.DRAFT_2020_12);
+    }
+
+    private static TestModel roundTrip(
+            final ImplementationState impl,
+            final PayloadModelState model,
+            final BytesCounter bytes,
+            final SchemaSpec version) {
+        bytes.bytes += model.serializedBytes;
+        return impl.roundTrip(model, version);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+
+/**
+ * Benchmark results for JSON Serde latency percentiles.
+ *
+ * <p>Runs the same benchmarks as {@link JsonSerdeBenchmark}, but in {@link Mode#SampleTime} mode,
+ * sampling the time taken for each round trip. The percentiles, e.g. p99.9, reveal tail latency
+ * caused by GC pauses, deoptimisation or pathological inputs, which averages hide.
+ */
+@BenchmarkMode(Mode.SampleTime)
+public class JsonSerdeSampleTimeBenchmark extends JsonSerdeBenchmark {}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.ThreadSafety;
+import org.creekservice.kafka.test.perf.implementations.JacksonImplementation;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.ImplementationState;
+import org.creekservice.kafka.test.perf.performance.util.ThreadScaling;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for JSON Serde throughput as the number of threads increases.
+ *
+ * <p>Runs the same round trip as {@link JsonSerdeBenchmark}, but measures throughput, and is
+ * annotated with {@link ThreadScaling}, so is run once for each thread count from one up to the
+ * number of available processors.
+ *
+ * <p>The {@code sharing} parameter controls how validators are shared between threads:
+ *
+ * <ul>
+ *   <li>{@link Sharing#SHARED}: all threads share a single prepared validator, i.e. the validator
+ *       is held in {@link Scope#Benchmark} state.
+ *   <li>{@link Sharing#PER_THREAD}: each thread prepares its own validator, i.e. the validator is
+ *       held in {@link Scope#Thread} state.
+ * </ul>
+ *
+ * <p>Only implementations whose validators are documented as {@link ThreadSafety#THREAD_SAFE} are
+ * run with shared validators. Sharing the validators of other implementations may fail, aborting
+ * the run, or produce a number that says nothing about production use. Such implementations extend
+ * {@link PerThreadScaling}, which only supports {@link Sharing#PER_THREAD}.
+ *
+ * <p>Perfect scaling would see throughput increase linearly with the thread count. Shared
+ * validators scaling worse than per-thread validators indicates contention within the library,
+ * e.g. locks, contended caches or false sharing.
+ *
+ * <p>Benchmark methods should be added for Draft_7 and Draft_2020_12 for each implementation that
+ * supports them.
+ */
+@ThreadScaling
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(2) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonSerdeScalingBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    public enum Sharing {
+        SHARED,
+        PER_THREAD
+    }
+
+    /** Controls sharing, and holds any shared validators, for thread-safe implementations. */
+    @State(Scope.Benchmark)
+    public static class SharingState {
+
+        @Param public Sharing sharing;
+
+        private final Map<Class<?>, ImplementationState> shared = new ConcurrentHashMap<>();
+
+        ImplementationState implementation(
+                final Class<?> key, final Supplier<Implementation> factory) {
+            switch (sharing) {
+                case SHARED:
+                    return shared.computeIfAbsent(
+                            key, k -> new ImplementationState(threadSafe(factory.get())));
+                case PER_THREAD:
+                    return new ImplementationState(factory.get());
+                default:
+                    throw new UnsupportedOperationException("Unsupported sharing: " + sharing);
+            }
+        }
+
+        private static Implementation threadSafe(final Implementation impl) {
+            if (impl.metadata().threadSafety() != ThreadSafety.THREAD_SAFE) {
+                throw new IllegalStateException(
+                        impl.metadata().shortName()
+                                + " validators are not documented as thread safe,"
+                                + " so can not be shared. Extend PerThreadScaling instead.");
+            }
+            return impl;
+        }
+    }
+
+    @State(Scope.Thread)
+    abstract static class ScalingState {
+
+        final Supplier<Implementation> factory;
+        ImplementationState impl;
+
+        ScalingState(final Supplier<Implementation> factory) {
+            this.factory = factory;
+        }
+
+        public TestModel roundTrip(final ModelState model, final SchemaSpec version) {
+            return impl.roundTrip(model, version);
+        }
+    }
+
+    /** State for implementations documented as thread safe: run both shared and per thread. */
+    abstract static class SharedScaling extends ScalingState {
+
+        SharedScaling(final Supplier<Implementation> factory) {
+            super(factory);
+        }
+
+        @Setup
+        public void setUp(final SharingState sharing) {
+            impl = sharing.implementation(getClass(), factory);
+        }
+    }
+
+    /** State for all other implementations: only run with a validator per thread. */
+    abstract static class PerThreadScaling extends ScalingState {
+
+        @Param({"PER_THREAD"})
+        public Sharing sharing;
+
+        PerThreadScaling(final Supplier<Implementation> factory) {
+            super(factory);
+        }
+
+        @Setup
+        public void setUp() {
+            if (sharing != Sharing.PER_THREAD) {
+                throw new IllegalArgumentException(
+                        "Only PER_THREAD sharing is supported for implementations not documented"
+                                + " as thread safe, got: "
+                                + sharing);
+            }
+            impl = new ImplementationState(factory.get());
+        }
+    }
+
+    public static class JacksonScaling extends SharedScaling {
+        public JacksonScaling() {
+            super(JacksonImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Jackson(final JacksonScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Jackson(
+            final JacksonScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaScaling extends PerThreadScaling {
+        public MedeiaScaling() {
+            super(MedeiaImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Medeia(final MedeiaScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritScaling extends PerThreadScaling {
+        public EveritScaling() {
+            super(EveritImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Everit(final EveritScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaScaling extends PerThreadScaling {
+        public SkemaScaling() {
+            super(SkemaImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Skema(final SkemaScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxScaling extends PerThreadScaling {
+        public VertxScaling() {
+            super(VertxImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Vertx(final VertxScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_Vertx(final VertxScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendScaling extends PerThreadScaling {
+        public SchemaFriendScaling() {
+            super(SchemaFriendImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_SchemaFriend(
+            final SchemaFriendScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtScaling extends SharedScaling {
+        public NetworkNtScaling() {
+            super(NetworkNtImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_NetworkNt(
+            final NetworkNtScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_NetworkNt(
+            final NetworkNtScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowScaling extends PerThreadScaling {
+        public SnowScaling() {
+            super(SnowImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Snow(final SnowScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyScaling extends SharedScaling {
+        public JustifyScaling() {
+            super(JustifyImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_Justify(final JustifyScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelScaling extends PerThreadScaling {
+        public DevHarrelScaling() {
+            super(DevHarrelImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_DevHarrel(
+            final DevHarrelScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_DevHarrel(
+            final DevHarrelScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jScaling extends PerThreadScaling {
+        public Sjf4jScaling() {
+            super(Sjf4jImplementation::new);
+        }
+    }
+
+    @Benchmark
+    public TestModel measureDraft_07_SJF4J(final Sjf4jScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public TestModel measureDraft_2020_12_SJF4J(final Sjf4jScaling impl, final ModelState model) {
+        return impl.roundTrip(model, SchemaSpec.DRAFT_2020_12);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.Collections;
+import java.util.List;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.DevHarrelState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.EveritState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.ImplementationState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.JustifyState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.MedeiaState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.NetworkNtState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.SchemaFriendState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.Sjf4jState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.SkemaState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.SnowState;
+import org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.VertxState;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark results for validating batches of JSON documents.
+ *
+ * <p>Each invocation validates a batch of {@value #BATCH_SIZE} serialized {@link
+ * ModelState#TEST_MODEL} documents, the default maximum number of records returned by a Kafka
+ * consumer poll. The results show the average time per document.
+ *
+ * <p>The {@code api} parameter controls how the batch is validated:
+ *
+ * <ul>
+ *   <li>{@link Api#SINGLE}: by calling {@code JsonValidator.validate(byte[])} for each document.
+ *   <li>{@link Api#BATCH}: by a single call to {@code JsonValidator.validateBatch(List)}, allowing
+ *       implementations to reuse per-call state across the batch.
+ * </ul>
+ *
+ * <p>Comparing the two shows what, if anything, an implementation saves per record by validating
+ * a batch. Implementations with no per-call state to reuse validate each document in turn, so
+ * should show no difference.
+ *
+ * <p>Benchmark methods should be added for Draft_7 and Draft_2020_12 for each implementation that
+ * supports them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@OperationsPerInvocation(JsonValidateBatchBenchmark.BATCH_SIZE)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(6) // Note: to debug, set fork to 0.
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidateBatchBenchmark {
+
+    static final int BATCH_SIZE = 500;
+
+    static {
+        Logging.disable();
+    }
+
+    public enum Api {
+        SINGLE,
+        BATCH
+    }
+
+    @State(Scope.Benchmark)
+    public static class BatchState {
+
+        @Param public Api api;
+
+        private List<byte[]> batch;
+
+        @Setup
+        public void setUp() {
+            try {
+                final byte[] json =
+                        JsonMapper.builder().build().writeValueAsBytes(ModelState.TEST_MODEL);
+                batch = Collections.nCopies(BATCH_SIZE, json);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Medeia(final MedeiaState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Everit(final EveritState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_Skema(final SkemaState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Vertx(final VertxState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_Vertx(final VertxState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public void measureDraft_07_SchemaFriend(final SchemaFriendState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public void measureDraft_07_NetworkNt(final NetworkNtState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_NetworkNt(final NetworkNtState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Snow(final SnowState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_Justify(final JustifyState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_07_DevHarrel(final DevHarrelState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_DevHarrel(final DevHarrelState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public void measureDraft_07_SJF4J(final Sjf4jState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_SJF4J(final Sjf4jState impl, final BatchState batch) {
+        validate(impl, batch, SchemaSpec.DRAFT_2020_12);
+    }
+
+    private static void validate(
+            final ImplementationState impl, final BatchState batch, final SchemaSpec version) {
+        final Implementation.JsonValidator validator = impl.validator(version);
+        switch (batch.api) {
+            case SINGLE:
+                for (final byte[] json : batch.batch) {
+                    validator.validate(json);
+                }
+                break;
+            case BATCH:
+                validator.validateBatch(batch.batch);
+                break;
+            default:
+                throw new UnsupportedOperationException(
+                        "Benchmark code needs enhancing to cover this case.");
+        }
+    }
+}
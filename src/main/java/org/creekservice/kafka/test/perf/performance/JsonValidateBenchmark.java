@@ -18,6 +18,7 @@ package org.creekservice.kafka.test.perf.performance;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import java.util.Set;
 import org.creekservice.api.test.util.TestPaths;
 import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
 import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
@@ -31,6 +32,7 @@ import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
 import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
 import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
 import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.DataFormat;
 import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.Result;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
 import org.creekservice.kafka.test.perf.testsuite.TestCase;
@@ -81,17 +83,17 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_04_Medeia(final MedeiaValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_04);
+        return validate(validator, SchemaSpec.DRAFT_04);
     }
 
     @Benchmark
     public Result measureDraft_06_Medeia(final MedeiaValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_06);
+        return validate(validator, SchemaSpec.DRAFT_06);
     }
 
     @Benchmark
     public Result measureDraft_07_Medeia(final MedeiaValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     public static class EveritValidator extends ValidatorState {
@@ -103,17 +105,17 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_04_Everit(final EveritValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_04);
+        return validate(validator, SchemaSpec.DRAFT_04);
     }
 
     @Benchmark
     public Result measureDraft_06_Everit(final EveritValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_06);
+        return validate(validator, SchemaSpec.DRAFT_06);
     }
 
     @Benchmark
     public Result measureDraft_07_Everit(final EveritValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     public static class SkemaValidator extends ValidatorState {
@@ -125,7 +127,7 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_2020_12_Skema(final SkemaValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2020_12);
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class VertxValidator extends ValidatorState {
@@ -137,22 +139,22 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_04_Vertx(final VertxValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_04);
+        return validate(validator, SchemaSpec.DRAFT_04);
     }
 
     @Benchmark
     public Result measureDraft_07_Vertx(final VertxValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public Result measureDraft_2019_09_Vertx(final VertxValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2019_09);
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
     }
 
     @Benchmark
     public Result measureDraft_2020_12_Vertx(final VertxValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2020_12);
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class SchemaFriendValidator extends ValidatorState {
@@ -164,32 +166,32 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_03_SchemaFriend(final SchemaFriendValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_03);
+        return validate(validator, SchemaSpec.DRAFT_03);
     }
 
     @Benchmark
     public Result measureDraft_04_SchemaFriend(final SchemaFriendValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_04);
+        return validate(validator, SchemaSpec.DRAFT_04);
     }
 
     @Benchmark
     public Result measureDraft_06_SchemaFriend(final SchemaFriendValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_06);
+        return validate(validator, SchemaSpec.DRAFT_06);
     }
 
     @Benchmark
     public Result measureDraft_07_SchemaFriend(final SchemaFriendValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public Result measureDraft_2019_09_SchemaFriend(final SchemaFriendValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2019_09);
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
     }
 
     @Benchmark
     public Result measureDraft_2020_12_SchemaFriend(final SchemaFriendValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2020_12);
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class NetworkNtValidator extends ValidatorState {
@@ -201,27 +203,27 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_04_NetworkNt(final NetworkNtValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_04);
+        return validate(validator, SchemaSpec.DRAFT_04);
     }
 
     @Benchmark
     public Result measureDraft_06_NetworkNt(final NetworkNtValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_06);
+        return validate(validator, SchemaSpec.DRAFT_06);
     }
 
     @Benchmark
     public Result measureDraft_07_NetworkNt(final NetworkNtValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public Result measureDraft_2019_09_NetworkNt(final NetworkNtValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2019_09);
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
     }
 
     @Benchmark
     public Result measureDraft_2020_12_NetworkNt(final NetworkNtValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2020_12);
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class SnowValidator extends ValidatorState {
@@ -233,17 +235,17 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_06_Snow(final SnowValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_06);
+        return validate(validator, SchemaSpec.DRAFT_06);
     }
 
     @Benchmark
     public Result measureDraft_07_Snow(final SnowValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public Result measureDraft_2019_09_Snow(final SnowValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2019_09);
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
     }
 
     public static class JustifyValidator extends ValidatorState {
@@ -255,17 +257,17 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_04_Justify(final JustifyValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_04);
+        return validate(validator, SchemaSpec.DRAFT_04);
     }
 
     @Benchmark
     public Result measureDraft_06_Justify(final JustifyValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_06);
+        return validate(validator, SchemaSpec.DRAFT_06);
     }
 
     @Benchmark
     public Result measureDraft_07_Justify(final JustifyValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     public static class DevHarrelValidator extends ValidatorState {
@@ -277,17 +279,17 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_07_DevHarrel(final DevHarrelValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public Result measureDraft_2019_09_DevHarrel(final DevHarrelValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2019_09);
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
     }
 
     @Benchmark
     public Result measureDraft_2020_12_DevHarrel(final DevHarrelValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2020_12);
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
     }
 
     public static class Sjf4jValidator extends ValidatorState {
@@ -299,17 +301,30 @@ public class JsonValidateBenchmark {
 
     @Benchmark
     public Result measureDraft_07_SJF4J(final Sjf4jValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_07);
+        return validate(validator, SchemaSpec.DRAFT_07);
     }
 
     @Benchmark
     public Result measureDraft_2019_09_SJF4J(final Sjf4jValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2019_09);
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
     }
 
     @Benchmark
     public Result measureDraft_2020_12_SJF4J(final Sjf4jValidator validator) {
-        return validator.validate(SchemaSpec.DRAFT_2020_12);
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    /**
+     * Run the validator through the test suite of the supplied {@code spec}.
+     *
+     * <p>Subclasses can override this method to change how the test data is supplied.
+     *
+     * @param validator the validator to run.
+     * @param spec the schema spec to run.
+     * @return the result.
+     */
+    protected Result validate(final ValidatorState validator, final SchemaSpec spec) {
+        return validator.validate(spec, DataFormat.STRING);
     }
 
     @State(Scope.Benchmark)
@@ -319,11 +334,22 @@ public class JsonValidateBenchmark {
         private final JsonSchemaTestSuite.Runner runner;
 
         protected ValidatorState(final Implementation implementation) {
-            runner = TEST_SUITE.prepare(implementation, new ValidatorState.PreTestPredicate());
+            this(implementation, Set.of());
+        }
+
+        /**
+         * @param implementation the implementation under test.
+         * @param formats the data formats the state will be run with.
+         */
+        protected ValidatorState(
+                final Implementation implementation, final Set<DataFormat> formats) {
+            runner =
+                    TEST_SUITE.prepare(
+                            implementation, new ValidatorState.PreTestPredicate(), formats);
         }
 
-        public Result validate(final SchemaSpec spec) {
-            return runner.run(spec::equals);
+        public Result validate(final SchemaSpec spec, final DataFormat format) {
+            return runner.run(spec::equals, format);
         }
 
         private static final class PreTestPredicate implements JsonSchemaTestSuite.TestPredicate {
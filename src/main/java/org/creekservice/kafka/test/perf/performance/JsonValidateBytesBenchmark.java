@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.DataFormat;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.Result;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+
+/**
+ * Benchmark results for JSON Schema validation of UTF-8 encoded bytes.
+ *
+ * <p>Runs the same benchmarks as {@link JsonValidateBenchmark}, but supplies the test data as
+ * UTF-8 encoded bytes, rather than a {@code String}. This is the format JSON is generally received
+ * in, e.g. from Kafka, and so shows the cost of each implementation on the input format seen in
+ * production.
+ */
+public class JsonValidateBytesBenchmark extends JsonValidateBenchmark {
+
+    @Override
+    protected Result validate(final ValidatorState validator, final SchemaSpec spec) {
+        return validator.validate(spec, DataFormat.BYTES);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.creekservice.api.test.util.TestPaths;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.DataFormat;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.Result;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.testsuite.TestCase;
+import org.creekservice.kafka.test.perf.testsuite.TestSuite;
+import org.creekservice.kafka.test.perf.testsuite.TestSuiteLoader;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for the cost of JSON Schema format assertions.
+ *
+ * <p>The benchmark runs each validator through the valid test cases of the <a
+ * href="https://github.com/json-schema-org/JSON-Schema-Test-Suite">standard set of tests</a> under
+ * {@code optional/format}, one format at a time, with format assertions both enabled and disabled.
+ * The {@code format} parameter selects the format, e.g. {@code email}, and the {@code assertions}
+ * parameter whether format assertions are enabled. The difference between the two is the cost of
+ * asserting the format.
+ *
+ * <p>Only implementations that allow format assertions to be turned on and off are included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(1) // Note: to debug, set fork to 0.
+// Short iterations keep the format x assertions x implementation matrix within CI job limits:
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidateFormatBenchmark {
+
+    public static final JsonSchemaTestSuite TEST_SUITE =
+            new TestSuiteLoader(path -> path.getParent().endsWith("format"))
+                    .load(
+                            TestPaths.moduleRoot("json-schema-validation-comparison")
+                                    .resolve("build/json-schema-test-suite"));
+
+    static {
+        Logging.disable();
+    }
+
+    /** The format under test, and whether format assertions are enabled. */
+    @State(Scope.Benchmark)
+    public static class FormatParams {
+
+        /** The name of the format, i.e. the name of its test file in {@code optional/format}. */
+        @Param({"date-time", "date", "time", "email", "hostname", "ipv4", "ipv6", "uri", "regex"})
+        public String format;
+
+        @Param({"true", "false"})
+        public boolean assertions;
+    }
+
+    public static class SkemaFormat extends FormatState {
+        public SkemaFormat() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_Skema(final SkemaFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class JustifyFormat extends FormatState {
+        public JustifyFormat() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Justify(final JustifyFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class SnowFormat extends FormatState {
+        public SnowFormat() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Snow(final SnowFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelFormat extends FormatState {
+        public DevHarrelFormat() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_DevHarrel(final DevHarrelFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_DevHarrel(final DevHarrelFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendFormat extends FormatState {
+        public SchemaFriendFormat() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_SchemaFriend(final SchemaFriendFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_SchemaFriend(final SchemaFriendFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jFormat extends FormatState {
+        public Sjf4jFormat() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_SJF4J(final Sjf4jFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_SJF4J(final Sjf4jFormat impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    @State(Scope.Benchmark)
+    abstract static class FormatState {
+
+        private final Implementation implementation;
+        private JsonSchemaTestSuite.Runner runner;
+
+        protected FormatState(final Implementation implementation) {
+            this.implementation = implementation;
+        }
+
+        @Setup
+        public void setUp(final FormatParams params) {
+            runner =
+                    TEST_SUITE.prepare(
+                            implementation,
+                            new FormatTestPredicate(params.format),
+                            suite -> params.assertions);
+        }
+
+        public Result validate(final SchemaSpec spec) {
+            return runner.run(spec::equals, DataFormat.STRING);
+        }
+
+        private static final class FormatTestPredicate
+                implements JsonSchemaTestSuite.TestPredicate {
+
+            private final String fileName;
+
+            FormatTestPredicate(final String format) {
+                this.fileName = format + ".json";
+            }
+
+            @Override
+            public boolean test(final TestSuite testSuite) {
+                return testSuite.filePath().getFileName().toString().equals(fileName);
+            }
+
+            @Override
+            public boolean test(final TestCase testCase) {
+                // Only valid cases, as with JsonValidateBenchmark.
+                // With assertions disabled, invalid cases would pass, skewing the comparison.
+                return testCase.valid();
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.creekservice.kafka.test.perf.implementations.ConfluentImplementation;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.DataFormat;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.Result;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.testsuite.TestCase;
+import org.creekservice.kafka.test.perf.testsuite.TestSuite;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Benchmark results for JSON Schema validation, per keyword.
+ *
+ * <p>Where {@link JsonValidateBenchmark} runs each validator through the whole of the <a
+ * href="https://github.com/json-schema-org/JSON-Schema-Test-Suite">standard set of tests</a>, this
+ * benchmark runs the valid test cases of a single test suite file, e.g. {@code ref.json}, at a
+ * time. The {@code keyword} parameter selects the file. The results show the cost of each keyword,
+ * for each implementation.
+ *
+ * <p>The set of keywords differs between drafts, so each draft has its own parameter state: {@link
+ * Draft07Keywords} and {@link Draft2020Keywords}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(1) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 3, time = 2)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidateKeywordBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    /** The Draft 7 keyword under test, i.e. the name of its test file, without extension. */
+    @State(Scope.Benchmark)
+    public static class Draft07Keywords {
+
+        @Param({
+            "type",
+            "enum",
+            "const",
+            "required",
+            "properties",
+            "additionalProperties",
+            "patternProperties",
+            "propertyNames",
+            "items",
+            "contains",
+            "uniqueItems",
+            "pattern",
+            "allOf",
+            "anyOf",
+            "oneOf",
+            "not",
+            "if-then-else",
+            "ref",
+            "dependencies"
+        })
+        public String keyword;
+    }
+
+    /** The Draft 2020-12 keyword under test, i.e. the name of its test file, without extension. */
+    @State(Scope.Benchmark)
+    public static class Draft2020Keywords {
+
+        @Param({
+            "type",
+            "enum",
+            "const",
+            "required",
+            "properties",
+            "additionalProperties",
+            "patternProperties",
+            "propertyNames",
+            "items",
+            "contains",
+            "uniqueItems",
+            "pattern",
+            "allOf",
+            "anyOf",
+            "oneOf",
+            "not",
+            "if-then-else",
+            "ref",
+            "prefixItems",
+            "dependentSchemas",
+            "unevaluatedProperties",
+            "unevaluatedItems",
+            "dynamicRef"
+        })
+        public String keyword;
+    }
+
+    public static class ConfluentKeyword extends KeywordState {
+        public ConfluentKeyword() {
+            super(new ConfluentImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Confluent(
+            final ConfluentKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_Confluent(
+            final ConfluentKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaKeyword extends KeywordState {
+        public MedeiaKeyword() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Medeia(final MedeiaKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritKeyword extends KeywordState {
+        public EveritKeyword() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Everit(final EveritKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaKeyword extends KeywordState {
+        public SkemaKeyword() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_Skema(
+            final SkemaKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxKeyword extends KeywordState {
+        public VertxKeyword() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Vertx(final VertxKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_Vertx(
+            final VertxKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendKeyword extends KeywordState {
+        public SchemaFriendKeyword() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_SchemaFriend(
+            final SchemaFriendKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_SchemaFriend(
+            final SchemaFriendKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class NetworkNtKeyword extends KeywordState {
+        public NetworkNtKeyword() {
+            super(new NetworkNtImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_NetworkNt(
+            final NetworkNtKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_NetworkNt(
+            final NetworkNtKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowKeyword extends KeywordState {
+        public SnowKeyword() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Snow(final SnowKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyKeyword extends KeywordState {
+        public JustifyKeyword() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Justify(
+            final JustifyKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelKeyword extends KeywordState {
+        public DevHarrelKeyword() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_DevHarrel(
+            final DevHarrelKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_DevHarrel(
+            final DevHarrelKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jKeyword extends KeywordState {
+        public Sjf4jKeyword() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public Result measureDraft_07_SJF4J(final Sjf4jKeyword impl, final Draft07Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_SJF4J(
+            final Sjf4jKeyword impl, final Draft2020Keywords keywords) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    @State(Scope.Benchmark)
+    abstract static class KeywordState {
+
+        private final Implementation implementation;
+        private JsonSchemaTestSuite.Runner runner;
+
+        protected KeywordState(final Implementation implementation) {
+            this.implementation = implementation;
+        }
+
+        @Setup
+        public void setUp(final BenchmarkParams params) {
+            // The keyword param is declared by the draft specific keyword states:
+            runner =
+                    JsonValidateBenchmark.TEST_SUITE.prepare(
+                            implementation, new KeywordTestPredicate(params.getParam("keyword")));
+        }
+
+        public Result validate(final SchemaSpec spec) {
+            return runner.run(spec::equals, DataFormat.STRING);
+        }
+
+        private static final class KeywordTestPredicate
+                implements JsonSchemaTestSuite.TestPredicate {
+
+            private final String fileName;
+
+            KeywordTestPredicate(final String keyword) {
+                this.fileName = keyword + ".json";
+            }
+
+            @Override
+            public boolean test(final TestSuite testSuite) {
+                return !testSuite.optional()
+                        && testSuite.filePath().getFileName().toString().equals(fileName);
+            }
+
+            @Override
+            public boolean test(final TestCase testCase) {
+                // Only valid cases, as with JsonValidateBenchmark.
+                return testCase.valid();
+            }
+        }
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.creekservice.kafka.test.perf.performance.JsonValidateBenchmark.TEST_SUITE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.Implementation.ThreadSafety;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.ValidatorPool;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.testsuite.TestCase;
+import org.creekservice.kafka.test.perf.testsuite.TestSuite;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for JSON Schema validation from many threads.
+ *
+ * <p>Each operation runs a task on every thread of a fixed pool of {@code threads} threads. Each
+ * task validates a share of the valid test cases from the <a
+ * href="https://github.com/json-schema-org/JSON-Schema-Test-Suite">standard set of tests</a>,
+ * along with the serialized {@link ModelState#TEST_MODEL}. Validators are only shared between
+ * threads if the implementation documents them as {@link ThreadSafety#THREAD_SAFE}. Otherwise,
+ * each thread prepares its own. The pool is kept for the whole trial, so any state held
+ * per-thread, e.g. in a {@link ThreadLocal}, is retained by all threads at once, as it would be in
+ * a service with a large thread pool.
+ *
+ * <p>Test cases the implementation fails on a single thread are excluded. Any test case failing
+ * when run on many threads fails the benchmark, rather than being scored.
+ *
+ * <p>The results show the average time for all tasks to complete. Run with the {@code
+ * LargeDocumentProfiler} to report the heap retained, sampled after each garbage collection, which
+ * will grow with the thread count for implementations that hold state per-thread.
+ *
+ * <p>Contended monitor entries can be recorded with the {@code ThreadContentionProfiler}, via the
+ * {@code profileValidateManyThreadsContention} Gradle task. It uses Java Flight Recorder, which
+ * adds overhead of its own, so is only used in that separate profiling run, not the run whose
+ * scores are reported.
+ *
+ * <p>Benchmark methods should be added for Draft_7, or Draft_2020_12 if Draft_7 is not supported,
+ * for each implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Threads(1) // Each operation runs tasks on its own thread pool.
+@Fork(2) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidateManyThreadsBenchmark {
+
+    /** The number of partitions the test suite is split into, each run by one thread. */
+    private static final int PARTITIONS = 16;
+
+    static {
+        Logging.disable();
+    }
+
+    @State(Scope.Benchmark)
+    abstract static class ThreadsState {
+
+        @Param({"100", "1000"})
+        public int threads;
+
+        private final Implementation impl;
+        private final SchemaSpec spec;
+        private final String schema;
+        private ThreadLocal<JsonSchemaTestSuite.Runner> runner;
+        private JsonValidator validator;
+        private byte[] json;
+        private ExecutorService pool;
+
+        ThreadsState(final Implementation impl, final SchemaSpec spec) {
+            this.impl = impl;
+            this.spec = spec;
+            this.schema =
+                    spec == SchemaSpec.DRAFT_07
+                            ? TestSchemas.DRAFT_7_SCHEMA
+                            : TestSchemas.DRAFT_2020_SCHEMA;
+        }
+
+        @Setup
+        public void setUp() {
+            try {
+                json = JsonMapper.builder().build().writeValueAsBytes(ModelState.TEST_MODEL);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+
+            final boolean threadSafe = impl.metadata().threadSafety() == ThreadSafety.THREAD_SAFE;
+
+            final AdditionalSchemas additionalSchemas =
+                    new AdditionalSchemas(Map.of(), Path.of(""));
+            validator =
+                    new ValidatorPool(
+                            threadSafe
+                                    ? ValidatorPool.Strategy.SHARED
+                                    : ValidatorPool.Strategy.THREAD_LOCAL,
+                            () -> impl.prepare(schema, spec, additionalSchemas, false));
+
+            final List<PartitionPredicate> partitions =
+                    IntStream.range(0, PARTITIONS)
+                            .mapToObj(this::passingCases)
+                            .collect(Collectors.toList());
+
+            // Only share runners, and the validators they hold, if thread safe:
+            final List<JsonSchemaTestSuite.Runner> shared =
+                    threadSafe
+                            ? partitions.stream()
+                                    .map(partition -> TEST_SUITE.prepare(impl, partition))
+                                    .collect(Collectors.toList())
+                            : List.of();
+
+            final AtomicInteger nextPartition = new AtomicInteger();
+            runner =
+                    ThreadLocal.withInitial(
+                            () -> {
+                                final int partition =
+                                        nextPartition.getAndIncrement() % PARTITIONS;
+                                return threadSafe
+                                        ? shared.get(partition)
+                                        : TEST_SUITE.prepare(impl, partitions.get(partition));
+                            });
+
+            pool = Executors.newFixedThreadPool(threads);
+
+            // Prepare each thread's runner and validator before measuring:
+            onAllThreads(
+                    () -> {
+                        runner.get();
+                        validator.validate(json);
+                    });
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdownNow();
+        }
+
+        public void run() {
+            onAllThreads(
+                    () -> {
+                        requirePassed(runner.get().run(spec::equals));
+                        validator.validate(json);
+                    });
+        }
+
+        private void onAllThreads(final Runnable task) {
+            final CountDownLatch started = new CountDownLatch(threads);
+            final List<Callable<Void>> tasks = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                tasks.add(
+                        () -> {
+                            // Wait for all tasks to start, so each runs on its own pool thread:
+                            started.countDown();
+                            started.await();
+                            task.run();
+                            return null;
+                        });
+            }
+
+            try {
+                for (final Future<Void> result : pool.invokeAll(tasks)) {
+                    result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Validation failed", e.getCause());
+            }
+        }
+
+        /**
+         * Build the predicate for a partition, excluding any test cases the implementation fails
+         * when run on a single thread, so that any failure when run on many threads is down to a
+         * lack of thread safety.
+         */
+        private PartitionPredicate passingCases(final int partition) {
+            final PartitionPredicate all = new PartitionPredicate(spec, partition, Set.of());
+            final Set<TestCase> failing = new HashSet<>();
+            TEST_SUITE
+                    .prepare(impl, all)
+                    .run(spec::equals)
+                    .visit(
+                            (s, result) -> {
+                                if (result.failed() || result.error()) {
+                                    failing.add(result.test());
+                                }
+                            });
+            return new PartitionPredicate(spec, partition, failing);
+        }
+
+        private static void requirePassed(final JsonSchemaTestSuite.Result result) {
+            result.visit(
+                    (s, test) -> {
+                        if (test.failed() || test.error()) {
+                            throw new IllegalStateException(
+                                    "Test case failed when run on many threads: "
+                                            + test.suite().filePath()
+                                            + ": "
+                                            + test.test().description());
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Selects the valid test cases of one partition of a spec's test suite files, excluding any
+     * known to fail.
+     */
+    private static final class PartitionPredicate implements JsonSchemaTestSuite.TestPredicate {
+
+        private final SchemaSpec spec;
+        private final int partition;
+        private final Set<TestCase> excluded;
+
+        PartitionPredicate(
+                final SchemaSpec spec, final int partition, final Set<TestCase> excluded) {
+            this.spec = spec;
+            this.partition = partition;
+            this.excluded = Set.copyOf(excluded);
+        }
+
+        @Override
+        public boolean test(final SchemaSpec candidate) {
+            return spec == candidate;
+        }
+
+        @Override
+        public boolean test(final TestSuite testSuite) {
+            return Math.floorMod(testSuite.filePath().toString().hashCode(), PARTITIONS)
+                    == partition;
+        }
+
+        @Override
+        public boolean test(final TestCase testCase) {
+            // Only valid cases, as with JsonValidateBenchmark:
+            return testCase.valid() && !excluded.contains(testCase);
+        }
+    }
+
+    public static class MedeiaThreads extends ThreadsState {
+        public MedeiaThreads() {
+            super(new MedeiaImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Medeia(final MedeiaThreads threads) {
+        threads.run();
+    }
+
+    public static class EveritThreads extends ThreadsState {
+        public EveritThreads() {
+            super(new EveritImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Everit(final EveritThreads threads) {
+        threads.run();
+    }
+
+    public static class SkemaThreads extends ThreadsState {
+        public SkemaThreads() {
+            super(new SkemaImplementation(), SchemaSpec.DRAFT_2020_12);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_Skema(final SkemaThreads threads) {
+        threads.run();
+    }
+
+    public static class VertxThreads extends ThreadsState {
+        public VertxThreads() {
+            super(new VertxImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Vertx(final VertxThreads threads) {
+        threads.run();
+    }
+
+    public static class SchemaFriendThreads extends ThreadsState {
+        public SchemaFriendThreads() {
+            super(new SchemaFriendImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_SchemaFriend(final SchemaFriendThreads threads) {
+        threads.run();
+    }
+
+    public static class NetworkNtThreads extends ThreadsState {
+        public NetworkNtThreads() {
+            super(new NetworkNtImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_NetworkNt(final NetworkNtThreads threads) {
+        threads.run();
+    }
+
+    public static class SnowThreads extends ThreadsState {
+        public SnowThreads() {
+            super(new SnowImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Snow(final SnowThreads threads) {
+        threads.run();
+    }
+
+    public static class JustifyThreads extends ThreadsState {
+        public JustifyThreads() {
+            super(new JustifyImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Justify(final JustifyThreads threads) {
+        threads.run();
+    }
+
+    public static class DevHarrelThreads extends ThreadsState {
+        public DevHarrelThreads() {
+            super(new DevHarrelImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_DevHarrel(final DevHarrelThreads threads) {
+        threads.run();
+    }
+
+    public static class Sjf4jThreads extends ThreadsState {
+        public Sjf4jThreads() {
+            super(new Sjf4jImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_SJF4J(final Sjf4jThreads threads) {
+        threads.run();
+    }
+}
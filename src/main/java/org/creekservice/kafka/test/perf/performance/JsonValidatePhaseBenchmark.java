@@ -0,0 +1,269 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Set;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.performance.JsonValidateBenchmark.ValidatorState;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.DataFormat;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.Result;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark results for JSON Schema validation, split into the cost of parsing and the cost of
+ * validating.
+ *
+ * <p>Runs the same test suite as {@link JsonValidateBenchmark}, once for each {@code format}:
+ *
+ * <ul>
+ *   <li>{@code PARSE_ONLY}: the cost of parsing the test data into the library's native tree.
+ *   <li>{@code PRE_PARSED}: the cost of validating test data that has already been parsed.
+ *   <li>{@code STRING}: the combined cost of parsing and validating, as reported by {@link
+ *       JsonValidateBenchmark}.
+ * </ul>
+ *
+ * <p>Test data is parsed when each validator is prepared, so the parse cost is excluded from
+ * {@code PRE_PARSED} measurements.
+ *
+ * <p>Only implementations that can validate a pre-parsed tree are included. Streaming validators,
+ * i.e. Justify and Medeia, validate as they parse, so have no separate validation phase to
+ * measure.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(6) // Note: to debug, set fork to 0.
+@State(Scope.Benchmark)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidatePhaseBenchmark {
+
+    @Param({"PARSE_ONLY", "PRE_PARSED", "STRING"})
+    public DataFormat format;
+
+    /** Test data is parsed when the validator is prepared, to keep it out of the measurement. */
+    private static final Set<DataFormat> FORMATS = Set.of(DataFormat.PRE_PARSED);
+
+    @Benchmark
+    public Result measureDraft_04_Everit(final EveritPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public Result measureDraft_06_Everit(final EveritPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Everit(final EveritPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_Skema(final SkemaPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public Result measureDraft_04_Vertx(final VertxPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Vertx(final VertxPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2019_09_Vertx(final VertxPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_Vertx(final VertxPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public Result measureDraft_03_SchemaFriend(final SchemaFriendPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_03);
+    }
+
+    @Benchmark
+    public Result measureDraft_04_SchemaFriend(final SchemaFriendPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public Result measureDraft_06_SchemaFriend(final SchemaFriendPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_SchemaFriend(final SchemaFriendPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2019_09_SchemaFriend(final SchemaFriendPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_SchemaFriend(final SchemaFriendPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public Result measureDraft_04_NetworkNt(final NetworkNtPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_04);
+    }
+
+    @Benchmark
+    public Result measureDraft_06_NetworkNt(final NetworkNtPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_NetworkNt(final NetworkNtPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2019_09_NetworkNt(final NetworkNtPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_NetworkNt(final NetworkNtPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public Result measureDraft_06_Snow(final SnowPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_06);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_Snow(final SnowPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2019_09_Snow(final SnowPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_DevHarrel(final DevHarrelPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2019_09_DevHarrel(final DevHarrelPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_DevHarrel(final DevHarrelPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    @Benchmark
+    public Result measureDraft_07_SJF4J(final Sjf4jPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Result measureDraft_2019_09_SJF4J(final Sjf4jPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2019_09);
+    }
+
+    @Benchmark
+    public Result measureDraft_2020_12_SJF4J(final Sjf4jPhase validator) {
+        return validate(validator, SchemaSpec.DRAFT_2020_12);
+    }
+
+    private Result validate(final ValidatorState validator, final SchemaSpec spec) {
+        return validator.validate(spec, format);
+    }
+
+    public static class EveritPhase extends ValidatorState {
+        public EveritPhase() {
+            super(new EveritImplementation(), FORMATS);
+        }
+    }
+
+    public static class SkemaPhase extends ValidatorState {
+        public SkemaPhase() {
+            super(new SkemaImplementation(), FORMATS);
+        }
+    }
+
+    public static class VertxPhase extends ValidatorState {
+        public VertxPhase() {
+            super(new VertxImplementation(), FORMATS);
+        }
+    }
+
+    public static class SchemaFriendPhase extends ValidatorState {
+        public SchemaFriendPhase() {
+            super(new SchemaFriendImplementation(), FORMATS);
+        }
+    }
+
+    public static class NetworkNtPhase extends ValidatorState {
+        public NetworkNtPhase() {
+            super(new NetworkNtImplementation(), FORMATS);
+        }
+    }
+
+    public static class SnowPhase extends ValidatorState {
+        public SnowPhase() {
+            super(new SnowImplementation(), FORMATS);
+        }
+    }
+
+    public static class DevHarrelPhase extends ValidatorState {
+        public DevHarrelPhase() {
+            super(new DevHarrelImplementation(), FORMATS);
+        }
+    }
+
+    public static class Sjf4jPhase extends ValidatorState {
+        public Sjf4jPhase() {
+            super(new Sjf4jImplementation(), FORMATS);
+        }
+    }
+}
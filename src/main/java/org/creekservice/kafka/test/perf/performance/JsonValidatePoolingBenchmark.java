@@ -0,0 +1,273 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.file.Path;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.ThreadSafety;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.ValidatorPool;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.ModelState;
+import org.creekservice.kafka.test.perf.performance.util.ThreadScaling;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark results for validator pooling strategies.
+ *
+ * <p>Each operation validates the serialized {@link ModelState#TEST_MODEL} via a {@link
+ * ValidatorPool}, with the {@code strategy} parameter controlling how validators are pooled. The
+ * {@link ValidatorPool.Strategy#SHARED} strategy, i.e. no pooling, acts as the baseline, though it
+ * is only safe for thread-safe implementations. Hence, it is only run for implementations whose
+ * validators are documented as {@link ThreadSafety#THREAD_SAFE}, which extend {@link
+ * ThreadSafePoolState}. Other implementations extend {@link PooledPoolState}, which only runs the
+ * pooling strategies.
+ *
+ * <p>The benchmark is annotated with {@link ThreadScaling}, so is run once for each thread count
+ * from one up to the number of available processors. Run with the {@code LargeDocumentProfiler}
+ * to also report the heap retained by each strategy.
+ */
+@ThreadScaling
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(2) // Note: to debug, set fork to 0.
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidatePoolingBenchmark {
+
+    static {
+        Logging.disable();
+    }
+
+    @State(Scope.Benchmark)
+    abstract static class PoolState {
+
+        private final Implementation impl;
+        private final SchemaSpec spec;
+        private final String schema;
+        private ValidatorPool pool;
+        private byte[] json;
+
+        PoolState(final Implementation impl, final SchemaSpec spec) {
+            this.impl = impl;
+            this.spec = spec;
+            this.schema =
+                    spec == SchemaSpec.DRAFT_07
+                            ? TestSchemas.DRAFT_7_SCHEMA
+                            : TestSchemas.DRAFT_2020_SCHEMA;
+        }
+
+        abstract ValidatorPool.Strategy strategy();
+
+        @Setup
+        public void setUp() {
+            final ValidatorPool.Strategy strategy = strategy();
+            if (strategy == ValidatorPool.Strategy.SHARED
+                    && impl.metadata().threadSafety() != ThreadSafety.THREAD_SAFE) {
+                throw new IllegalArgumentException(
+                        impl.metadata().shortName()
+                                + " validators are not documented as thread safe,"
+                                + " so can not be benchmarked with the SHARED strategy");
+            }
+
+            try {
+                json = JsonMapper.builder().build().writeValueAsBytes(ModelState.TEST_MODEL);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+
+            final AdditionalSchemas additionalSchemas =
+                    new AdditionalSchemas(Map.of(), Path.of(""));
+            pool =
+                    new ValidatorPool(
+                            strategy, () -> impl.prepare(schema, spec, additionalSchemas, false));
+        }
+
+        public void validate() {
+            pool.validate(json);
+        }
+    }
+
+    /** State for implementations documented as thread safe: runs all strategies. */
+    abstract static class ThreadSafePoolState extends PoolState {
+
+        @Param public ValidatorPool.Strategy strategy;
+
+        ThreadSafePoolState(final Implementation impl, final SchemaSpec spec) {
+            super(impl, spec);
+        }
+
+        @Override
+        ValidatorPool.Strategy strategy() {
+            return strategy;
+        }
+    }
+
+    /** State for all other implementations: only runs the strategies that pool validators. */
+    abstract static class PooledPoolState extends PoolState {
+
+        @Param({"THREAD_LOCAL", "STRIPED"})
+        public ValidatorPool.Strategy strategy;
+
+        PooledPoolState(final Implementation impl, final SchemaSpec spec) {
+            super(impl, spec);
+        }
+
+        @Override
+        ValidatorPool.Strategy strategy() {
+            return strategy;
+        }
+    }
+
+    public static class MedeiaPool extends PooledPoolState {
+        public MedeiaPool() {
+            super(new MedeiaImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Medeia(final MedeiaPool pool) {
+        pool.validate();
+    }
+
+    public static class EveritPool extends PooledPoolState {
+        public EveritPool() {
+            super(new EveritImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Everit(final EveritPool pool) {
+        pool.validate();
+    }
+
+    public static class SkemaPool extends PooledPoolState {
+        public SkemaPool() {
+            super(new SkemaImplementation(), SchemaSpec.DRAFT_2020_12);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_2020_12_Skema(final SkemaPool pool) {
+        pool.validate();
+    }
+
+    public static class VertxPool extends PooledPoolState {
+        public VertxPool() {
+            super(new VertxImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Vertx(final VertxPool pool) {
+        pool.validate();
+    }
+
+    public static class SchemaFriendPool extends PooledPoolState {
+        public SchemaFriendPool() {
+            super(new SchemaFriendImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_SchemaFriend(final SchemaFriendPool pool) {
+        pool.validate();
+    }
+
+    public static class NetworkNtPool extends ThreadSafePoolState {
+        public NetworkNtPool() {
+            super(new NetworkNtImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_NetworkNt(final NetworkNtPool pool) {
+        pool.validate();
+    }
+
+    public static class SnowPool extends PooledPoolState {
+        public SnowPool() {
+            super(new SnowImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Snow(final SnowPool pool) {
+        pool.validate();
+    }
+
+    public static class JustifyPool extends ThreadSafePoolState {
+        public JustifyPool() {
+            super(new JustifyImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_Justify(final JustifyPool pool) {
+        pool.validate();
+    }
+
+    public static class DevHarrelPool extends PooledPoolState {
+        public DevHarrelPool() {
+            super(new DevHarrelImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_DevHarrel(final DevHarrelPool pool) {
+        pool.validate();
+    }
+
+    public static class Sjf4jPool extends PooledPoolState {
+        public Sjf4jPool() {
+            super(new Sjf4jImplementation(), SchemaSpec.DRAFT_07);
+        }
+    }
+
+    @Benchmark
+    public void measureDraft_07_SJF4J(final Sjf4jPool pool) {
+        pool.validate();
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import com.networknt.schema.regex.JDKRegularExpressionFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.implementations.ConfluentImplementation;
+import org.creekservice.kafka.test.perf.implementations.DevHarrelImplementation;
+import org.creekservice.kafka.test.perf.implementations.EveritImplementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.JustifyImplementation;
+import org.creekservice.kafka.test.perf.implementations.MedeiaImplementation;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.implementations.SchemaFriendImplementation;
+import org.creekservice.kafka.test.perf.implementations.Sjf4jImplementation;
+import org.creekservice.kafka.test.perf.implementations.SkemaImplementation;
+import org.creekservice.kafka.test.perf.implementations.SnowImplementation;
+import org.creekservice.kafka.test.perf.implementations.VertxImplementation;
+import org.creekservice.kafka.test.perf.model.RegexDocument;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.Logging;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark results for JSON Schema validation of a regex heavy workload.
+ *
+ * <p>The schema, {@code regex/regex-draft-*.json}, uses {@code pattern} and {@code
+ * patternProperties} throughout: UUIDs, ISO codes, semantic versions, emails and long
+ * alternations. The document, generated by {@link RegexDocument}, contains many mixed case strings
+ * and distinct property names, so that the cost of compiling, caching and matching patterns
+ * dominates.
+ *
+ * <p>NetworkNt supports pluggable regular expression engines, and is benchmarked with both the
+ * Joni engine, which is used elsewhere, and the JDK's engine. The {@code regexEngine} parameter
+ * selects the engine.
+ *
+ * <p>Benchmark methods should be added for Draft_7 and Draft_2020_12 for each implementation that
+ * supports them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Threads(1) // GitHub linux runners have two cores, so running more threads is pointless.
+@Fork(2) // Note: to debug, set fork to 0.
+@SuppressWarnings({"FieldMayBeFinal", "MethodName"}) // not final to avoid folding.
+public class JsonValidateRegexBenchmark {
+
+    /** The number of records in the validated document. */
+    private static final int RECORDS = 50;
+
+    private static final String DOCUMENT = RegexDocument.json(RECORDS);
+    private static final byte[] DOCUMENT_BYTES = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+
+    static {
+        Logging.disable();
+    }
+
+    public static class ConfluentRegex extends RegexState {
+        public ConfluentRegex() {
+            super(new ConfluentImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Confluent(final ConfluentRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Confluent(final ConfluentRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class MedeiaRegex extends RegexState {
+        public MedeiaRegex() {
+            super(new MedeiaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Medeia(final MedeiaRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class EveritRegex extends RegexState {
+        public EveritRegex() {
+            super(new EveritImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Everit(final EveritRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class SkemaRegex extends RegexState {
+        public SkemaRegex() {
+            super(new SkemaImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Skema(final SkemaRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class VertxRegex extends RegexState {
+        public VertxRegex() {
+            super(new VertxImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Vertx(final VertxRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_Vertx(final VertxRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SchemaFriendRegex extends RegexState {
+        public SchemaFriendRegex() {
+            super(new SchemaFriendImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_SchemaFriend(final SchemaFriendRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_SchemaFriend(final SchemaFriendRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    /** The regular expression engine NetworkNt is configured to use. */
+    public enum RegexEngine {
+        JONI,
+        JDK
+    }
+
+    public static class NetworkNtRegex extends RegexState {
+
+        @Param public RegexEngine regexEngine;
+
+        public NetworkNtRegex() {
+            super(new NetworkNtImplementation());
+        }
+
+        @Override
+        protected Implementation implementation() {
+            return regexEngine == RegexEngine.JDK
+                    ? new NetworkNtImplementation(JDKRegularExpressionFactory.getInstance())
+                    : super.implementation();
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_NetworkNt(final NetworkNtRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_NetworkNt(final NetworkNtRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class SnowRegex extends RegexState {
+        public SnowRegex() {
+            super(new SnowImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Snow(final SnowRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class JustifyRegex extends RegexState {
+        public JustifyRegex() {
+            super(new JustifyImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_Justify(final JustifyRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    public static class DevHarrelRegex extends RegexState {
+        public DevHarrelRegex() {
+            super(new DevHarrelImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_DevHarrel(final DevHarrelRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_DevHarrel(final DevHarrelRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    public static class Sjf4jRegex extends RegexState {
+        public Sjf4jRegex() {
+            super(new Sjf4jImplementation());
+        }
+    }
+
+    @Benchmark
+    public Object measureDraft_07_SJF4J(final Sjf4jRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_07);
+    }
+
+    @Benchmark
+    public Object measureDraft_2020_12_SJF4J(final Sjf4jRegex impl) {
+        return impl.validate(SchemaSpec.DRAFT_2020_12);
+    }
+
+    @State(Scope.Thread)
+    abstract static class RegexState {
+
+        private final Implementation impl;
+        private final Map<SchemaSpec, JsonValidator> validators = new EnumMap<>(SchemaSpec.class);
+        private byte[] document = DOCUMENT_BYTES;
+
+        RegexState(final Implementation impl) {
+            this.impl = impl;
+        }
+
+        @Setup
+        public void setUp() {
+            final Implementation impl = implementation();
+            validators.put(SchemaSpec.DRAFT_07, prepare(impl, SchemaSpec.DRAFT_07));
+            validators.put(SchemaSpec.DRAFT_2020_12, prepare(impl, SchemaSpec.DRAFT_2020_12));
+        }
+
+        public Object validate(final SchemaSpec spec) {
+            final JsonValidator validator = validators.get(spec);
+            if (validator == null) {
+                throw new UnsupportedOperationException("Implementation does not support " + spec);
+            }
+
+            validator.validate(document);
+            return validator;
+        }
+
+        /** @return the implementation to benchmark. */
+        protected Implementation implementation() {
+            return impl;
+        }
+
+        private static JsonValidator prepare(final Implementation impl, final SchemaSpec spec) {
+            if (!impl.supports(spec)) {
+                return null;
+            }
+
+            final String schema =
+                    spec == SchemaSpec.DRAFT_07
+                            ? TestSchemas.REGEX_DRAFT_7_SCHEMA
+                            : TestSchemas.REGEX_DRAFT_2020_SCHEMA;
+
+            return impl.prepare(schema, spec, new AdditionalSchemas(Map.of(), Path.of("")), false);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.creekservice.kafka.test.perf.performance.util.model.Metric;
+import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
+
+/**
+ * Compares two JMH JSON result files, e.g. from before and after a change.
+ *
+ * <p>Benchmarks are matched by test class, test case, mode and params. For each match, the relative
+ * change in score is calculated, and the change is only deemed significant if the confidence
+ * intervals of the two scores, i.e. the score plus or minus the JMH score error, do not overlap.
+ */
+public final class BenchmarkDiff {
+
+    /** JMH mode where a higher score is better. All other modes measure time. */
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private static final List<String> HEADINGS =
+            List.of(
+                    "Benchmark",
+                    "Params",
+                    "Mode",
+                    "Baseline",
+                    "Current",
+                    "Unit",
+                    "Change",
+                    "Verdict");
+
+    private static final ObjectMapper MAPPER =
+            JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+    private final PerformanceJsonReader reader;
+
+    public BenchmarkDiff() {
+        this(new PerformanceJsonReader());
+    }
+
+    BenchmarkDiff(final PerformanceJsonReader reader) {
+        this.reader = requireNonNull(reader, "reader");
+    }
+
+    /** The outcome of comparing a benchmark's results. */
+    public enum Verdict {
+        /** The current result is significantly better than the baseline. */
+        FASTER,
+        /** The current result is significantly worse than the baseline. */
+        SLOWER,
+        /** The confidence intervals of the results overlap. */
+        NO_SIGNIFICANT_CHANGE,
+        /** The benchmark is only in the baseline results. */
+        REMOVED,
+        /** The benchmark is only in the current results. */
+        ADDED
+    }
+
+    /**
+     * Compare two JMH JSON result files, writing the comparison as markdown and JSON.
+     *
+     * @param baseline the baseline JMH JSON results, e.g. from before a change.
+     * @param current the current JMH JSON results, e.g. from after a change.
+     * @param outputDir the directory to write {@code benchmark-diff.md} and {@code
+     *     benchmark-diff.json} to.
+     * @return the changes.
+     */
+    public List<Change> diff(final Path baseline, final Path current, final Path outputDir) {
+        final List<Change> changes = diff(baseline, current);
+        try {
+            Files.createDirectories(outputDir);
+            Files.writeString(outputDir.resolve("benchmark-diff.md"), toMarkdown(changes), UTF_8);
+            Files.writeString(outputDir.resolve("benchmark-diff.json"), toJson(changes), UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write to " + outputDir, e);
+        }
+        return changes;
+    }
+
+    /**
+     * Compare two JMH JSON result files.
+     *
+     * @param baseline the baseline JMH JSON results, e.g. from before a change.
+     * @param current the current JMH JSON results, e.g. from after a change.
+     * @return the changes, in the order of the baseline results, followed by any benchmarks only in
+     *     the current results.
+     */
+    public List<Change> diff(final Path baseline, final Path current) {
+        final Map<String, PerformanceResult> baselineResults = byKey(reader.read(baseline));
+        final Map<String, PerformanceResult> currentResults = byKey(reader.read(current));
+
+        final List<Change> changes = new ArrayList<>();
+        baselineResults.forEach(
+                (key, result) -> changes.add(new Change(result, currentResults.get(key))));
+        currentResults.forEach(
+                (key, result) -> {
+                    if (!baselineResults.containsKey(key)) {
+                        changes.add(new Change(null, result));
+                    }
+                });
+        return List.copyOf(changes);
+    }
+
+    /**
+     * @param changes the changes to format.
+     * @return the changes as markdown, with a table per test class.
+     */
+    public static String toMarkdown(final List<Change> changes) {
+        final Map<String, List<Change>> byClass =
+                changes.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        Change::testClass,
+                                        LinkedHashMap::new,
+                                        Collectors.toList()));
+
+        final StringBuilder builder = new StringBuilder();
+        byClass.forEach(
+                (testClass, classChanges) -> {
+                    builder.append("### ").append(testClass).append(lineSeparator());
+                    builder.append(lineSeparator());
+                    builder.append(JsonToMarkdownConvertor.headings(HEADINGS));
+                    classChanges.forEach(change -> builder.append(row(change)));
+                    builder.append(lineSeparator());
+                });
+        return builder.toString();
+    }
+
+    /**
+     * @param changes the changes to format.
+     * @return the changes as a JSON array.
+     */
+    public static String toJson(final List<Change> changes) {
+        final ArrayNode json = MAPPER.createArrayNode();
+        changes.forEach(change -> json.add(toJson(change)));
+
+        try {
+            return MAPPER.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize changes", e);
+        }
+    }
+
+    private static ObjectNode toJson(final Change change) {
+        final ObjectNode json = MAPPER.createObjectNode();
+        json.put("testClass", change.testClass());
+        json.put("testCase", change.testCase());
+        json.put("mode", change.mode());
+        final ObjectNode params = json.putObject("params");
+        change.params().forEach(params::put);
+        json.put("unit", change.unit());
+        change.baselineScore().ifPresent(score -> json.put("baselineScore", score));
+        change.baselineError().ifPresent(error -> json.put("baselineError", error));
+        change.currentScore().ifPresent(score -> json.put("currentScore", score));
+        change.currentError().ifPresent(error -> json.put("currentError", error));
+        change.relativeChange().ifPresent(relative -> json.put("relativeChange", relative));
+        json.put("verdict", change.verdict().name());
+        return json;
+    }
+
+    private static String row(final Change change) {
+        final List<String> values = new ArrayList<>();
+        values.add(change.testCase());
+        values.add(
+                change.params().entrySet().stream()
+                        .map(e -> e.getKey() + "=" + e.getValue())
+                        .collect(Collectors.joining(", ")));
+        values.add(change.mode());
+        values.add(formatScore(change.baseline));
+        values.add(formatScore(change.current));
+        values.add(change.unit());
+        values.add(
+                change.relativeChange()
+                        .map(c -> String.format(Locale.ROOT, "%+.1f%%", c * 100))
+                        .orElse(""));
+        values.add(change.verdict().name());
+        return values.stream().collect(Collectors.joining(" | ", "| ", " |")) + lineSeparator();
+    }
+
+    private static String formatScore(final PerformanceResult result) {
+        if (result == null) {
+            return "";
+        }
+
+        final Metric metric = result.metric();
+        return JsonToMarkdownConvertor.formatDecimal(metric.score())
+                + metric.scoreError()
+                        .map(error -> " ± " + JsonToMarkdownConvertor.formatDecimal(error))
+                        .orElse("");
+    }
+
+    private static Map<String, PerformanceResult> byKey(final PerformanceResult[] results) {
+        final Map<String, PerformanceResult> byKey = new LinkedHashMap<>();
+        for (final PerformanceResult result : results) {
+            byKey.put(key(result), result);
+        }
+        return byKey;
+    }
+
+    private static String key(final PerformanceResult result) {
+        return result.testClass()
+                + "."
+                + result.testCase()
+                + result.params()
+                + " ("
+                + result.mode()
+                + ")";
+    }
+
+    /** The change in a single benchmark's result. */
+    public static final class Change {
+
+        private final PerformanceResult baseline;
+        private final PerformanceResult current;
+
+        Change(final PerformanceResult baseline, final PerformanceResult current) {
+            if (baseline == null && current == null) {
+                throw new IllegalArgumentException("At least one result is required");
+            }
+            this.baseline = baseline;
+            this.current = current;
+        }
+
+        public String testClass() {
+            return either().testClass();
+        }
+
+        public String testCase() {
+            return either().testCase();
+        }
+
+        public String mode() {
+            return either().mode();
+        }
+
+        public Map<String, String> params() {
+            return either().params();
+        }
+
+        public String unit() {
+            return either().metric().scoreUnit();
+        }
+
+        public Optional<BigDecimal> baselineScore() {
+            return Optional.ofNullable(baseline).map(r -> r.metric().score());
+        }
+
+        public Optional<BigDecimal> baselineError() {
+            return Optional.ofNullable(baseline).flatMap(r -> r.metric().scoreError());
+        }
+
+        public Optional<BigDecimal> currentScore() {
+            return Optional.ofNullable(current).map(r -> r.metric().score());
+        }
+
+        public Optional<BigDecimal> currentError() {
+            return Optional.ofNullable(current).flatMap(r -> r.metric().scoreError());
+        }
+
+        /**
+         * @return the relative change in score, e.g. {@code 0.1} if the current score is 10%
+         *     higher than the baseline, if both results are present.
+         */
+        public Optional<Double> relativeChange() {
+            if (baseline == null || current == null || baseline.metric().score().signum() == 0) {
+                return Optional.empty();
+            }
+
+            return Optional.of(
+                    current.metric()
+                            .score()
+                            .divide(baseline.metric().score(), MathContext.DECIMAL64)
+                            .subtract(BigDecimal.ONE)
+                            .doubleValue());
+        }
+
+        public Verdict verdict() {
+            if (baseline == null) {
+                return Verdict.ADDED;
+            }
+            if (current == null) {
+                return Verdict.REMOVED;
+            }
+            if (intervalsOverlap()) {
+                return Verdict.NO_SIGNIFICANT_CHANGE;
+            }
+
+            final boolean higher =
+                    current.metric().score().compareTo(baseline.metric().score()) > 0;
+            final boolean higherIsBetter = THROUGHPUT_MODE.equals(current.mode());
+            return higher == higherIsBetter ? Verdict.FASTER : Verdict.SLOWER;
+        }
+
+        private boolean intervalsOverlap() {
+            final BigDecimal baseError = baseline.metric().scoreError().orElse(BigDecimal.ZERO);
+            final BigDecimal currentError = current.metric().scoreError().orElse(BigDecimal.ZERO);
+            final BigDecimal gap =
+                    current.metric().score().subtract(baseline.metric().score()).abs();
+            return gap.compareTo(baseError.add(currentError)) <= 0;
+        }
+
+        private PerformanceResult either() {
+            return current == null ? baseline : current;
+        }
+    }
+}
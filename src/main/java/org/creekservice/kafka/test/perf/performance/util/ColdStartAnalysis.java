@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Derives cold start and warm up metrics from the results of single shot benchmarks.
+ *
+ * <p>Applies to results run in {@code SingleShotTime} mode with at least {@value #MIN_ITERATIONS}
+ * measurement iterations per fork, where each iteration times a single operation. The iteration
+ * times are averaged across forks, and the following secondary metrics added to the result:
+ *
+ * <ul>
+ *   <li>{@code coldStart}: the time of the first operation.
+ *   <li>{@code steadyState}: the median time per operation across the last tenth of iterations.
+ *   <li>{@code warmUpOps}: the number of operations before the median time of the next {@value
+ *       #WINDOW} operations is within {@value #TOLERANCE} times {@code steadyState}.
+ *   <li>{@code warmUpTime}: the total time of those operations.
+ * </ul>
+ *
+ * <p>Other results are left unchanged.
+ */
+public final class ColdStartAnalysis {
+
+    /** The names of the secondary metrics this analysis adds. */
+    static final List<String> METRICS =
+            List.of("coldStart", "steadyState", "warmUpOps", "warmUpTime");
+
+    static final int WINDOW = 20;
+    static final int MIN_ITERATIONS = 2 * WINDOW;
+    static final double TOLERANCE = 1.1;
+
+    private static final String SINGLE_SHOT_MODE = "ss";
+    private static final String OP_SUFFIX = "/op";
+
+    private static final ObjectMapper MAPPER =
+            JsonMapper.builder()
+                    .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .build();
+
+    private ColdStartAnalysis() {}
+
+    /**
+     * Add cold start metrics to any applicable results in the supplied JMH JSON result file.
+     *
+     * @param results the JMH JSON result file, which is updated in place.
+     */
+    public static void annotate(final Path results) {
+        final JsonNode root = read(results);
+
+        boolean changed = false;
+        for (final JsonNode result : root) {
+            changed |= annotate((ObjectNode) result);
+        }
+
+        if (changed) {
+            try {
+                MAPPER.writeValue(results.toFile(), root);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write " + results, e);
+            }
+        }
+    }
+
+    private static boolean annotate(final ObjectNode result) {
+        if (!SINGLE_SHOT_MODE.equals(result.path("mode").asText())) {
+            return false;
+        }
+
+        final JsonNode primary = result.path("primaryMetric");
+        final double[] curve = meanCurve(primary.path("rawData"));
+        if (curve.length < MIN_ITERATIONS) {
+            return false;
+        }
+
+        final String unit = primary.path("scoreUnit").asText();
+        final String timeUnit =
+                unit.endsWith(OP_SUFFIX)
+                        ? unit.substring(0, unit.length() - OP_SUFFIX.length())
+                        : unit;
+
+        final int tail = Math.max(WINDOW, curve.length / 10);
+        final double steadyState = median(curve, curve.length - tail, curve.length);
+        final int warmUpOps = warmUpOps(curve, steadyState);
+        final double warmUpTime = Arrays.stream(curve, 0, warmUpOps).sum();
+
+        final ObjectNode metrics =
+                result.has("secondaryMetrics")
+                        ? (ObjectNode) result.get("secondaryMetrics")
+                        : result.putObject("secondaryMetrics");
+
+        metrics.set("coldStart", metric(curve[0], unit));
+        metrics.set("steadyState", metric(steadyState, unit));
+        metrics.set("warmUpOps", metric(warmUpOps, "ops"));
+        metrics.set("warmUpTime", metric(warmUpTime, timeUnit));
+        return true;
+    }
+
+    /**
+     * @param rawData JMH raw data, i.e. an array per fork of the score of each iteration.
+     * @return the score of each iteration, averaged across forks.
+     */
+    private static double[] meanCurve(final JsonNode rawData) {
+        int forks = 0;
+        int iterations = Integer.MAX_VALUE;
+        for (final JsonNode fork : rawData) {
+            forks++;
+            iterations = Math.min(iterations, fork.size());
+        }
+
+        if (forks == 0) {
+            return new double[0];
+        }
+
+        final double[] curve = new double[iterations];
+        for (final JsonNode fork : rawData) {
+            for (int i = 0; i < iterations; i++) {
+                curve[i] += fork.get(i).asDouble() / forks;
+            }
+        }
+        return curve;
+    }
+
+    private static int warmUpOps(final double[] curve, final double steadyState) {
+        for (int i = 1; i + WINDOW <= curve.length; i++) {
+            if (median(curve, i, i + WINDOW) <= steadyState * TOLERANCE) {
+                return i;
+            }
+        }
+        return curve.length;
+    }
+
+    private static double median(final double[] values, final int from, final int to) {
+        final double[] sorted = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(sorted);
+        final int mid = sorted.length / 2;
+        return sorted.length % 2 == 0 ? (sorted[mid - 1] + sorted[mid]) / 2 : sorted[mid];
+    }
+
+    private static ObjectNode metric(final double score, final String unit) {
+        final ObjectNode metric = MAPPER.createObjectNode();
+        metric.put("score", score);
+        metric.put("scoreError", "NaN");
+        metric.put("scoreUnit", unit);
+        return metric;
+    }
+
+    private static JsonNode read(final Path file) {
+        try {
+            return MAPPER.readTree(file.toFile());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + file, e);
+        }
+    }
+}
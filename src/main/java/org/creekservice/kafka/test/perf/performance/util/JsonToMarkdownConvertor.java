@@ -25,16 +25,34 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.creekservice.kafka.test.perf.performance.util.model.Metric;
 import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
 
 public final class JsonToMarkdownConvertor {
 
     private static final List<String> HEADINGS =
-            List.of("Benchmark", "Mode", "Score", "Score Error (99.9%)", "Unit");
+            List.of("Mode", "Score", "Score Error (99.9%)", "Unit");
+
+    /** The mode JMH reports for {@code SampleTime} benchmarks. */
+    private static final String SAMPLE_MODE = "sample";
+
+    /** Percentiles to report for sampled results, keyed by their JMH name. */
+    private static final Map<String, String> PERCENTILES = percentiles();
+
+    /**
+     * The secondary metrics to render, in column order: bytes allocated per operation, as reported
+     * by JMH's GC profiler, followed by those of this project's profilers. Other metrics, e.g. the
+     * GC profiler's allocation rate and GC counts, are only available in the JSON results.
+     */
+    private static final List<String> RENDERED_METRICS = renderedMetrics();
 
     private final PerformanceJsonReader reader;
 
@@ -64,12 +82,45 @@ public final class JsonToMarkdownConvertor {
     }
 
     private static String convert(final List<PerformanceResult> results) {
+        final List<String> params = distinctKeys(results, PerformanceResult::params);
+        final List<String> available = distinctKeys(results, PerformanceResult::secondaryMetrics);
+        final List<String> metrics =
+                RENDERED_METRICS.stream().filter(available::contains).collect(Collectors.toList());
+
         final StringBuilder builder = new StringBuilder();
-        builder.append(headings());
-        results.forEach(result -> builder.append(row(result)));
+        builder.append(headings(params, metrics));
+        results.forEach(result -> builder.append(row(result, params, metrics)));
+
+        final List<PerformanceResult> sampled =
+                results.stream()
+                        .filter(result -> result.mode().equals(SAMPLE_MODE))
+                        .filter(result -> !result.metric().scorePercentiles().isEmpty())
+                        .collect(Collectors.toList());
+
+        if (!sampled.isEmpty()) {
+            builder.append(lineSeparator());
+            builder.append(percentileHeadings(params));
+            sampled.forEach(result -> builder.append(percentileRow(result, params)));
+        }
+
+        final String overhead = ValidationOverhead.toMarkdown(results, params);
+        if (!overhead.isEmpty()) {
+            builder.append(lineSeparator());
+            builder.append(overhead);
+        }
         return builder.toString();
     }
 
+    private static List<String> distinctKeys(
+            final List<PerformanceResult> results,
+            final Function<PerformanceResult, Map<String, ?>> accessor) {
+        return results.stream()
+                .map(accessor)
+                .flatMap(map -> map.keySet().stream())
+                .distinct()
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     private static Map<String, List<PerformanceResult>> splitResults(
             final PerformanceResult[] results) {
         return Arrays.stream(results).collect(Collectors.groupingBy(result -> result.testClass()));
@@ -89,31 +140,93 @@ public final class JsonToMarkdownConvertor {
         }
     }
 
-    private static String headings() {
-        final String headings = HEADINGS.stream().collect(Collectors.joining(" | ", "| ", " |"));
+    private static String headings(final List<String> params, final List<String> metrics) {
+        final List<String> all = new ArrayList<>();
+        all.add("Benchmark");
+        all.addAll(params);
+        all.addAll(HEADINGS);
+        all.addAll(metrics);
+        return headings(all);
+    }
+
+    private static String percentileHeadings(final List<String> params) {
+        final List<String> all = new ArrayList<>();
+        all.add("Benchmark");
+        all.addAll(params);
+        all.addAll(PERCENTILES.values());
+        all.add("Unit");
+        return headings(all);
+    }
+
+    static String headings(final List<String> all) {
+        final String headings = all.stream().collect(Collectors.joining(" | ", "| ", " |"));
         final String nextLine =
-                HEADINGS.stream()
+                all.stream()
                         .map(heading -> "-".repeat(heading.length()))
                         .collect(Collectors.joining("-|-", "|-", "-|"));
         return headings + lineSeparator() + nextLine + lineSeparator();
     }
 
-    private static String row(final PerformanceResult result) {
-        final List<String> values =
-                List.of(
-                        result.testCase(),
-                        result.mode(),
-                        formatDecimal(result.metric().score()),
-                        result.metric()
-                                .scoreError()
-                                .map(JsonToMarkdownConvertor::formatDecimal)
-                                .orElse(""),
-                        result.metric().scoreUnit());
+    private static String row(
+            final PerformanceResult result, final List<String> params, final List<String> metrics) {
+        final List<String> values = new ArrayList<>();
+        values.add(result.testCase());
+        params.forEach(param -> values.add(result.params().getOrDefault(param, "")));
+        values.add(result.mode());
+        values.add(formatDecimal(result.metric().score()));
+        values.add(
+                result.metric()
+                        .scoreError()
+                        .map(JsonToMarkdownConvertor::formatDecimal)
+                        .orElse(""));
+        values.add(result.metric().scoreUnit());
+        metrics.forEach(metric -> values.add(formatMetric(result.secondaryMetrics().get(metric))));
+
+        final String row = values.stream().collect(Collectors.joining(" | ", "| ", " |"));
+        return row + lineSeparator();
+    }
+
+    private static String percentileRow(final PerformanceResult result, final List<String> params) {
+        final Map<String, BigDecimal> percentiles = result.metric().scorePercentiles();
+
+        final List<String> values = new ArrayList<>();
+        values.add(result.testCase());
+        params.forEach(param -> values.add(result.params().getOrDefault(param, "")));
+        for (final String percentile : PERCENTILES.keySet()) {
+            final BigDecimal value = percentiles.get(percentile);
+            values.add(value == null ? "" : formatDecimal(value));
+        }
+        values.add(result.metric().scoreUnit());
+
         final String row = values.stream().collect(Collectors.joining(" | ", "| ", " |"));
         return row + lineSeparator();
     }
 
-    private static String formatDecimal(final BigDecimal decimal) {
+    private static String formatMetric(final Metric metric) {
+        return metric == null ? "" : formatDecimal(metric.score()) + " " + metric.scoreUnit();
+    }
+
+    private static List<String> renderedMetrics() {
+        final List<String> metrics = new ArrayList<>();
+        metrics.add("gc.alloc.rate.norm");
+        metrics.addAll(LargeDocumentProfiler.METRICS);
+        metrics.addAll(ThreadContentionProfiler.METRICS);
+        metrics.addAll(ColdStartAnalysis.METRICS);
+        return List.copyOf(metrics);
+    }
+
+    private static Map<String, String> percentiles() {
+        final Map<String, String> percentiles = new LinkedHashMap<>();
+        percentiles.put("50.0", "p50");
+        percentiles.put("90.0", "p90");
+        percentiles.put("99.0", "p99");
+        percentiles.put("99.9", "p99.9");
+        percentiles.put("99.99", "p99.99");
+        percentiles.put("100.0", "max");
+        return Collections.unmodifiableMap(percentiles);
+    }
+
+    static String formatDecimal(final BigDecimal decimal) {
         final int sigFig = 5;
         final int exponent = decimal.precision() - decimal.scale();
         final int scale = Math.max(0, sigFig - exponent);
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * JMH profiler reporting the data throughput and heap usage of benchmarks that process large
+ * documents.
+ *
+ * <p>Reports the following secondary metrics for each iteration:
+ *
+ * <ul>
+ *   <li>{@code throughput}: the rate at which document data was processed, in MB/s. Only reported
+ *       for benchmarks with a {@value #SIZE_PARAM} parameter run in throughput mode.
+ *   <li>{@code heap.peak}: the peak heap usage, in MB, including any garbage not yet collected.
+ *       This is the sum of the peak usage of each heap memory pool.
+ *   <li>{@code heap.live}: the maximum heap usage after any garbage collection, in MB. This is an
+ *       approximation of the peak memory the benchmark needed to retain.
+ * </ul>
+ *
+ * <p>Enable by passing {@code -prof} followed by the fully qualified name of this class to JMH.
+ */
+public final class LargeDocumentProfiler implements InternalProfiler {
+
+    /** The name of the benchmark parameter holding the size of the document, in MB. */
+    public static final String SIZE_PARAM = "documentSizeMb";
+
+    /** The names of the secondary metrics this profiler reports. */
+    static final List<String> METRICS = List.of("throughput", "heap.peak", "heap.live");
+
+    private static final double MB = 1024 * 1024;
+
+    private final List<MemoryPoolMXBean> heapPools;
+    private final Set<String> heapPoolNames;
+    private final AtomicLong maxLiveHeap = new AtomicLong();
+    private final NotificationListener gcListener = this::onGc;
+
+    public LargeDocumentProfiler() {
+        this.heapPools =
+                ManagementFactory.getMemoryPoolMXBeans().stream()
+                        .filter(pool -> pool.getType() == MemoryType.HEAP)
+                        .collect(Collectors.toList());
+        this.heapPoolNames =
+                heapPools.stream().map(MemoryPoolMXBean::getName).collect(Collectors.toSet());
+    }
+
+    @Override
+    public String getDescription() {
+        return "Data throughput and heap usage of large document benchmarks";
+    }
+
+    @Override
+    @SuppressFBWarnings(value = "DM_GC", justification = "Start each iteration with a clean heap")
+    public void beforeIteration(
+            final BenchmarkParams benchmarkParams, final IterationParams iterationParams) {
+        System.gc();
+
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        maxLiveHeap.set(usedHeap());
+
+        gcEmitters().forEach(emitter -> emitter.addNotificationListener(gcListener, null, null));
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            final BenchmarkParams benchmarkParams,
+            final IterationParams iterationParams,
+            final IterationResult result) {
+        gcEmitters().forEach(this::removeListener);
+
+        final long peakHeap =
+                heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        final ScalarResult peak =
+                new ScalarResult("heap.peak", peakHeap / MB, "MB", AggregationPolicy.MAX);
+        final ScalarResult live =
+                new ScalarResult(
+                        "heap.live", maxLiveHeap.get() / MB, "MB", AggregationPolicy.MAX);
+
+        final String size = benchmarkParams.getParam(SIZE_PARAM);
+        if (size == null || benchmarkParams.getMode() != Mode.Throughput) {
+            return List.of(peak, live);
+        }
+
+        // Primary score is in operations per output time unit:
+        final double opsPerSecond =
+                result.getPrimaryResult().getScore()
+                        * TimeUnit.SECONDS.toNanos(1)
+                        / benchmarkParams.getTimeUnit().toNanos(1);
+
+        final ScalarResult throughput =
+                new ScalarResult(
+                        "throughput",
+                        opsPerSecond * Double.parseDouble(size),
+                        "MB/s",
+                        AggregationPolicy.AVG);
+
+        return List.of(throughput, peak, live);
+    }
+
+    private long usedHeap() {
+        return heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    private void onGc(final Notification notification, final Object handback) {
+        if (!notification
+                .getType()
+                .equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+            return;
+        }
+
+        final GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+
+        final long used =
+                info.getGcInfo().getMemoryUsageAfterGc().entrySet().stream()
+                        .filter(e -> heapPoolNames.contains(e.getKey()))
+                        .mapToLong(e -> e.getValue().getUsed())
+                        .sum();
+
+        maxLiveHeap.accumulateAndGet(used, Math::max);
+    }
+
+    private void removeListener(final NotificationEmitter emitter) {
+        try {
+            emitter.removeNotificationListener(gcListener);
+        } catch (ListenerNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<NotificationEmitter> gcEmitters() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .filter(NotificationEmitter.class::isInstance)
+                .map(NotificationEmitter.class::cast)
+                .collect(Collectors.toList());
+    }
+}
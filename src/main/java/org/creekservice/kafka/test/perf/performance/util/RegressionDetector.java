@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.kafka.test.perf.performance.util.model.HistoryEntry;
+import org.openjdk.jmh.util.ListStatistics;
+import org.openjdk.jmh.util.Statistics;
+
+/**
+ * Detects performance regressions between versions of an implementation, using the {@link
+ * ResultHistory}.
+ *
+ * <p>For each benchmark, the most recent result is compared with the most recent result recorded
+ * against a different version of the same implementation. A regression is reported if both:
+ *
+ * <ul>
+ *   <li>the most recent result is slower by more than a threshold, e.g. 10%, and
+ *   <li>the difference is statistically significant. Where the iteration samples of both results
+ *       are known, this is determined using Welch's t-test at the configured confidence level.
+ *       Otherwise, the difference is considered significant if the results' JMH score error
+ *       intervals do not overlap.
+ * </ul>
+ */
+public final class RegressionDetector {
+
+    public static final double DEFAULT_THRESHOLD = 0.1;
+    public static final double DEFAULT_CONFIDENCE = 0.99;
+
+    /** JMH mode where a higher score is better. All other modes measure time. */
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final double threshold;
+    private final double confidence;
+
+    public RegressionDetector() {
+        this(DEFAULT_THRESHOLD, DEFAULT_CONFIDENCE);
+    }
+
+    /**
+     * @param threshold the minimum relative slowdown to report, e.g. {@code 0.1} for 10%.
+     * @param confidence the confidence level of the significance test, e.g. {@code 0.99}.
+     */
+    public RegressionDetector(final double threshold, final double confidence) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("confidence must be in (0, 1): " + confidence);
+        }
+        this.threshold = threshold;
+        this.confidence = confidence;
+    }
+
+    /**
+     * Detect regressions in the supplied {@code history}.
+     *
+     * @param history the history, in the order it was recorded.
+     * @return any regressions detected.
+     */
+    public List<Regression> detect(final List<HistoryEntry> history) {
+        final Map<String, List<HistoryEntry>> byBenchmark = new LinkedHashMap<>();
+        for (final HistoryEntry entry : history) {
+            byBenchmark.computeIfAbsent(entry.key(), k -> new ArrayList<>()).add(entry);
+        }
+
+        final List<Regression> regressions = new ArrayList<>();
+        byBenchmark.values().forEach(entries -> detect(entries).ifPresent(regressions::add));
+        return List.copyOf(regressions);
+    }
+
+    private Optional<Regression> detect(final List<HistoryEntry> entries) {
+        final HistoryEntry current = entries.get(entries.size() - 1);
+
+        for (int i = entries.size() - 2; i >= 0; i--) {
+            final HistoryEntry baseline = entries.get(i);
+            if (!baseline.version().equals(current.version())) {
+                return compare(baseline, current);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private Optional<Regression> compare(final HistoryEntry baseline, final HistoryEntry current) {
+        if (!baseline.scoreUnit().equals(current.scoreUnit())) {
+            return Optional.empty();
+        }
+
+        final double change = slowdown(baseline, current);
+        if (change <= threshold || !significant(baseline, current)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Regression(baseline, current, change));
+    }
+
+    /** @return the relative slowdown, e.g. {@code 0.1} if {@code current} is 10% slower. */
+    private static double slowdown(final HistoryEntry baseline, final HistoryEntry current) {
+        final double base = baseline.score().doubleValue();
+        final double now = current.score().doubleValue();
+        if (base == 0 || now == 0) {
+            return 0;
+        }
+
+        return THROUGHPUT_MODE.equals(current.mode()) ? base / now - 1 : now / base - 1;
+    }
+
+    private boolean significant(final HistoryEntry baseline, final HistoryEntry current) {
+        if (baseline.samples().size() > 1 && current.samples().size() > 1) {
+            return statistics(baseline).isDifferent(statistics(current), confidence);
+        }
+
+        // Fall back to checking if the JMH score error intervals overlap:
+        final BigDecimal baseError = baseline.scoreError().orElse(BigDecimal.ZERO);
+        final BigDecimal currentError = current.scoreError().orElse(BigDecimal.ZERO);
+        final BigDecimal gap = current.score().subtract(baseline.score()).abs();
+        return gap.compareTo(baseError.add(currentError)) > 0;
+    }
+
+    private static Statistics statistics(final HistoryEntry entry) {
+        return new ListStatistics(
+                entry.samples().stream().mapToDouble(BigDecimal::doubleValue).toArray());
+    }
+
+    /** A detected regression. */
+    public static final class Regression {
+
+        private final HistoryEntry baseline;
+        private final HistoryEntry current;
+        private final double slowdown;
+
+        Regression(final HistoryEntry baseline, final HistoryEntry current, final double slowdown) {
+            this.baseline = requireNonNull(baseline, "baseline");
+            this.current = requireNonNull(current, "current");
+            this.slowdown = slowdown;
+        }
+
+        /** @return the result of the previous version. */
+        public HistoryEntry baseline() {
+            return baseline;
+        }
+
+        /** @return the result of the current version. */
+        public HistoryEntry current() {
+            return current;
+        }
+
+        /** @return the relative slowdown, e.g. {@code 0.1} for 10% slower. */
+        public double slowdown() {
+            return slowdown;
+        }
+
+        @Override
+        public String toString() {
+            return current.key()
+                    + ": "
+                    + current.implementation()
+                    + " "
+                    + baseline.version()
+                    + " -> "
+                    + current.version()
+                    + ", "
+                    + baseline.score()
+                    + " -> "
+                    + current.score()
+                    + " "
+                    + current.scoreUnit()
+                    + String.format(Locale.ROOT, " (%.1f%% slower)", slowdown * 100);
+        }
+    }
+}
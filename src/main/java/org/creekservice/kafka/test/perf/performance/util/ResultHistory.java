@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementations;
+import org.creekservice.kafka.test.perf.performance.util.model.HistoryEntry;
+import org.creekservice.kafka.test.perf.performance.util.model.Metric;
+import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
+
+/**
+ * An append-only history of benchmark results.
+ *
+ * <p>Each benchmark class has its own history file, in JSON Lines format, i.e. one {@link
+ * HistoryEntry} per line. Each entry records the version of the implementation benchmarked, as
+ * reported by its jar, allowing the results of different versions of an implementation to be
+ * compared, e.g. by {@link RegressionDetector}.
+ */
+public final class ResultHistory {
+
+    private static final String FILE_EXTENSION = ".jsonl";
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    private static final ObjectMapper MAPPER =
+            JsonMapper.builder()
+                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .build();
+
+    private final Path historyRoot;
+    private final Map<String, String> versions;
+    private final Clock clock;
+
+    /**
+     * @param historyRoot the directory history files are stored in.
+     */
+    public ResultHistory(final Path historyRoot) {
+        this(historyRoot, implementationVersions(), Clock.systemUTC());
+    }
+
+    ResultHistory(final Path historyRoot, final Map<String, String> versions, final Clock clock) {
+        this.historyRoot = requireNonNull(historyRoot, "historyRoot");
+        this.versions = Map.copyOf(requireNonNull(versions, "versions"));
+        this.clock = requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Append the results in a JMH JSON result file to the history.
+     *
+     * @param jsonResults the JMH JSON result file.
+     * @return the appended entries.
+     */
+    public List<HistoryEntry> append(final Path jsonResults) {
+        final String recorded = clock.instant().toString();
+        final List<HistoryEntry> entries = new ArrayList<>();
+        readJson(jsonResults).forEach(result -> entries.add(entry(result, recorded)));
+
+        entries.stream()
+                .collect(Collectors.groupingBy(HistoryEntry::benchmark))
+                .forEach(this::appendToFile);
+
+        return List.copyOf(entries);
+    }
+
+    /**
+     * Read the history of a benchmark class.
+     *
+     * @param benchmarkClass the benchmark class, e.g. {@code JsonValidateBenchmark}.
+     * @return the entries, in the order they were recorded.
+     */
+    public List<HistoryEntry> read(final String benchmarkClass) {
+        final Path file = file(benchmarkClass);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+
+        try (Stream<String> lines = Files.lines(file, UTF_8)) {
+            return lines.filter(line -> !line.isBlank())
+                    .map(ResultHistory::parseEntry)
+                    .collect(Collectors.toUnmodifiableList());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + file, e);
+        }
+    }
+
+    /**
+     * @return the history of all benchmark classes.
+     */
+    public List<HistoryEntry> readAll() {
+        if (!Files.isDirectory(historyRoot)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(historyRoot)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(FILE_EXTENSION))
+                    .sorted()
+                    .map(name -> name.substring(0, name.length() - FILE_EXTENSION.length()))
+                    .flatMap(benchmarkClass -> read(benchmarkClass).stream())
+                    .collect(Collectors.toUnmodifiableList());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list " + historyRoot, e);
+        }
+    }
+
+    private void appendToFile(final String benchmarkClass, final List<HistoryEntry> entries) {
+        final StringBuilder lines = new StringBuilder();
+        entries.forEach(entry -> lines.append(serialize(entry)).append('\n'));
+
+        final Path file = file(benchmarkClass);
+        try {
+            Files.createDirectories(historyRoot);
+            Files.writeString(
+                    file,
+                    lines,
+                    UTF_8,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to append to " + file, e);
+        }
+    }
+
+    private HistoryEntry entry(final JsonNode node, final String recorded) {
+        final PerformanceResult result;
+        try {
+            result = MAPPER.treeToValue(node, PerformanceResult.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse result: " + node, e);
+        }
+
+        final String testCase = result.testCase();
+        final String implementation = testCase.substring(testCase.lastIndexOf('_') + 1);
+        final Metric metric = result.metric();
+
+        return new HistoryEntry(
+                recorded,
+                result.testClass(),
+                testCase,
+                result.mode(),
+                result.params(),
+                implementation,
+                versions.getOrDefault(implementation, UNKNOWN_VERSION),
+                metric.score(),
+                metric.scoreError().orElse(null),
+                metric.scoreUnit(),
+                samples(node.path("primaryMetric").path("rawData")));
+    }
+
+    /**
+     * JMH reports raw data as an array, per fork, of the score of each measurement iteration.
+     *
+     * @param rawData the raw data node.
+     * @return the scores of all iterations, across all forks.
+     */
+    private static List<BigDecimal> samples(final JsonNode rawData) {
+        final List<BigDecimal> samples = new ArrayList<>();
+        rawData.forEach(
+                fork ->
+                        fork.forEach(
+                                iteration -> {
+                                    if (iteration.isNumber()) {
+                                        samples.add(iteration.decimalValue());
+                                    }
+                                }));
+        return samples;
+    }
+
+    private Path file(final String benchmarkClass) {
+        return historyRoot.resolve(benchmarkClass + FILE_EXTENSION);
+    }
+
+    private static JsonNode readJson(final Path jsonResults) {
+        try {
+            return MAPPER.readTree(jsonResults.toFile());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + jsonResults, e);
+        }
+    }
+
+    private static String serialize(final HistoryEntry entry) {
+        try {
+            return MAPPER.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize " + entry, e);
+        }
+    }
+
+    private static HistoryEntry parseEntry(final String line) {
+        try {
+            return MAPPER.readValue(line, HistoryEntry.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to parse history entry: " + line, e);
+        }
+    }
+
+    private static Map<String, String> implementationVersions() {
+        return Implementations.all().stream()
+                .map(Implementation::metadata)
+                .collect(
+                        Collectors.toMap(
+                                Implementation.MetaData::shortName,
+                                Implementation.MetaData::version));
+    }
+}
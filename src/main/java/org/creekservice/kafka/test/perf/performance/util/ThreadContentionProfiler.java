@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * JMH profiler reporting thread contention, as recorded by Java Flight Recorder.
+ *
+ * <p>Reports the following secondary metrics for each iteration, normalised per operation:
+ *
+ * <ul>
+ *   <li>{@code monitor.contended}: the number of contended monitor entries, i.e. threads blocking
+ *       to enter a {@code synchronized} block or method, from the {@value #MONITOR_ENTER} event.
+ *   <li>{@code monitor.blocked}: the total time threads spent blocked entering monitors, in ms.
+ * </ul>
+ *
+ * <p>Enable by passing {@code -prof} followed by the fully qualified name of this class to JMH.
+ * Recording adds overhead to the benchmark, so use it in a separate profiling run, rather than in a
+ * run whose scores are reported.
+ */
+public final class ThreadContentionProfiler implements InternalProfiler {
+
+    /** The names of the secondary metrics this profiler reports. */
+    static final List<String> METRICS = List.of("monitor.contended", "monitor.blocked");
+
+    private static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+
+    private Recording recording;
+
+    @Override
+    public String getDescription() {
+        return "Contended monitor entries, recorded via JFR";
+    }
+
+    @Override
+    public void beforeIteration(
+            final BenchmarkParams benchmarkParams, final IterationParams iterationParams) {
+        recording = new Recording();
+        recording.enable(MONITOR_ENTER).withThreshold(Duration.ZERO).withoutStackTrace();
+        recording.start();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+            final BenchmarkParams benchmarkParams,
+            final IterationParams iterationParams,
+            final IterationResult result) {
+        recording.stop();
+
+        final List<RecordedEvent> events = readEvents();
+
+        final double ops = Math.max(1, result.getMetadata().getAllOps());
+
+        long contended = 0;
+        Duration blocked = Duration.ZERO;
+        for (final RecordedEvent event : events) {
+            if (MONITOR_ENTER.equals(event.getEventType().getName())) {
+                contended++;
+                blocked = blocked.plus(event.getDuration());
+            }
+        }
+
+        return List.of(
+                new ScalarResult(
+                        "monitor.contended", contended / ops, "#/op", AggregationPolicy.AVG),
+                new ScalarResult(
+                        "monitor.blocked",
+                        blocked.toNanos() / 1_000_000.0 / ops,
+                        "ms/op",
+                        AggregationPolicy.AVG));
+    }
+
+    private List<RecordedEvent> readEvents() {
+        try {
+            final Path file = Files.createTempFile("thread-contention", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file);
+            } finally {
+                recording.close();
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/** Support for running a {@link ThreadScaling} benchmark across a range of thread counts. */
+public final class ThreadSweep {
+
+    /** The name of the param the thread count is recorded under in merged results. */
+    public static final String THREADS_PARAM = "threads";
+
+    private static final String PERFORMANCE_PACKAGE =
+            "org.creekservice.kafka.test.perf.performance.";
+
+    private static final ObjectMapper MAPPER =
+            JsonMapper.builder()
+                    .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .build();
+
+    private ThreadSweep() {}
+
+    /**
+     * Determine if a thread sweep should be run.
+     *
+     * @param benchmark the name of the benchmark class being run.
+     * @param args the command line args.
+     * @return {@code true} if the benchmark is annotated with {@link ThreadScaling} and the args do
+     *     not explicitly set the thread count.
+     */
+    public static boolean appliesTo(final String benchmark, final String[] args) {
+        if (Arrays.asList(args).contains("-t")) {
+            return false;
+        }
+
+        try {
+            // Load without initializing, to avoid running the benchmark's static initializers:
+            final ClassLoader loader = ThreadSweep.class.getClassLoader();
+            return Class.forName(PERFORMANCE_PACKAGE + benchmark, false, loader)
+                    .isAnnotationPresent(ThreadScaling.class);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Powers of two up to, and including, {@code maxThreads}.
+     *
+     * @param maxThreads the maximum thread count, generally the number of available processors.
+     * @return thread counts to run, e.g. {@code 1, 2, 4, 6} for {@code maxThreads} of 6.
+     */
+    public static List<Integer> threadCounts(final int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("maxThreads must be positive: " + maxThreads);
+        }
+
+        final List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return List.copyOf(counts);
+    }
+
+    /**
+     * Merge the JMH JSON result files of each run in to a single result file.
+     *
+     * <p>The thread count of each result is added to its params, under {@link #THREADS_PARAM}, so
+     * that it is reported alongside any JMH params.
+     *
+     * @param runResults the JMH JSON result files of each run.
+     * @param output the file to write the merged results to.
+     */
+    public static void merge(final List<Path> runResults, final Path output) {
+        requireNonNull(output, "output");
+
+        final ArrayNode merged = MAPPER.createArrayNode();
+        runResults.forEach(file -> read(file).forEach(result -> merged.add(withThreads(result))));
+
+        try {
+            MAPPER.writeValue(output.toFile(), merged);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write " + output, e);
+        }
+    }
+
+    private static JsonNode read(final Path file) {
+        try {
+            return MAPPER.readTree(file.toFile());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read " + file, e);
+        }
+    }
+
+    private static JsonNode withThreads(final JsonNode result) {
+        final ObjectNode copy = result.deepCopy();
+        final ObjectNode params =
+                copy.has("params") ? (ObjectNode) copy.get("params") : copy.putObject("params");
+        params.put(THREADS_PARAM, copy.path("threads").asText("1"));
+        return copy;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.lang.System.lineSeparator;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
+
+/**
+ * Reports the validation overhead of each implementation over the plain Jackson baseline.
+ *
+ * <p>Benchmarks such as {@code JsonSerdeBenchmark} include a {@code Jackson} result per draft that
+ * performs the same work with no validation. For each other implementation, the overhead is the
+ * difference between its score and the baseline's score for the same draft, params and mode,
+ * reported both in absolute terms and as a percentage of the baseline.
+ *
+ * <p>Throughput results are excluded, as their scores are not a cost per operation.
+ */
+final class ValidationOverhead {
+
+    static final String BASELINE = "Jackson";
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private static final Pattern METHOD_PATTERN =
+            Pattern.compile("measure(?<draft>Draft[_0-9]+)_(?<impl>.+)");
+
+    private ValidationOverhead() {}
+
+    /**
+     * @param results the results of a single benchmark class.
+     * @param params the names of the params used by the results.
+     * @return the overhead as a markdown table, or an empty string if there is no baseline.
+     */
+    static String toMarkdown(final List<PerformanceResult> results, final List<String> params) {
+        final Map<String, PerformanceResult> baselines = new HashMap<>();
+        for (final PerformanceResult result : results) {
+            final Matcher matcher = METHOD_PATTERN.matcher(result.testCase());
+            if (matcher.matches()
+                    && matcher.group("impl").equals(BASELINE)
+                    && !result.mode().equals(THROUGHPUT_MODE)) {
+                baselines.put(key(matcher.group("draft"), result), result);
+            }
+        }
+
+        if (baselines.isEmpty()) {
+            return "";
+        }
+
+        final Map<String, List<String>> rowsByDraft = new LinkedHashMap<>();
+        for (final PerformanceResult result : results) {
+            final Matcher matcher = METHOD_PATTERN.matcher(result.testCase());
+            if (!matcher.matches() || matcher.group("impl").equals(BASELINE)) {
+                continue;
+            }
+
+            final String draft = matcher.group("draft");
+            final PerformanceResult baseline = baselines.get(key(draft, result));
+            if (baseline == null
+                    || !baseline.metric().scoreUnit().equals(result.metric().scoreUnit())) {
+                continue;
+            }
+
+            rowsByDraft
+                    .computeIfAbsent(draft, k -> new ArrayList<>())
+                    .add(row(draft, matcher.group("impl"), result, baseline, params));
+        }
+
+        if (rowsByDraft.isEmpty()) {
+            return "";
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        builder.append(headings(params));
+        rowsByDraft.values().forEach(rows -> rows.forEach(builder::append));
+        return builder.toString();
+    }
+
+    private static String headings(final List<String> params) {
+        final List<String> all = new ArrayList<>();
+        all.add("Draft");
+        all.add("Implementation");
+        all.addAll(params);
+        all.addAll(List.of("Mode", "Score", BASELINE, "Overhead", "Overhead %", "Unit"));
+        return JsonToMarkdownConvertor.headings(all);
+    }
+
+    private static String row(
+            final String draft,
+            final String impl,
+            final PerformanceResult result,
+            final PerformanceResult baseline,
+            final List<String> params) {
+        final BigDecimal score = result.metric().score();
+        final BigDecimal baselineScore = baseline.metric().score();
+        final BigDecimal overhead = score.subtract(baselineScore);
+
+        final List<String> values = new ArrayList<>();
+        values.add(draft);
+        values.add(impl);
+        params.forEach(param -> values.add(result.params().getOrDefault(param, "")));
+        values.add(result.mode());
+        values.add(JsonToMarkdownConvertor.formatDecimal(score));
+        values.add(JsonToMarkdownConvertor.formatDecimal(baselineScore));
+        values.add(JsonToMarkdownConvertor.formatDecimal(overhead));
+        values.add(
+                baselineScore.signum() == 0
+                        ? ""
+                        : String.format(
+                                Locale.ROOT,
+                                "%+.1f%%",
+                                overhead.divide(baselineScore, MathContext.DECIMAL64)
+                                        .movePointRight(2)));
+        values.add(result.metric().scoreUnit());
+        return values.stream().collect(Collectors.joining(" | ", "| ", " |")) + lineSeparator();
+    }
+
+    private static String key(final String draft, final PerformanceResult result) {
+        return draft + result.params() + result.mode();
+    }
+}
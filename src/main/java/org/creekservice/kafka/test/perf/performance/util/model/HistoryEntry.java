@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util.model;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A single benchmark result, as recorded in the result history.
+ *
+ * <p>Entries are keyed by the version of the implementation that was benchmarked, allowing the
+ * results of different versions of the same implementation to be compared.
+ */
+public final class HistoryEntry {
+
+    private final String recorded;
+    private final String benchmark;
+    private final String testCase;
+    private final String mode;
+    private final Map<String, String> params;
+    private final String implementation;
+    private final String version;
+    private final BigDecimal score;
+
+    @JsonProperty("scoreError")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final BigDecimal scoreError;
+
+    private final String scoreUnit;
+    private final List<BigDecimal> samples;
+
+    /**
+     * @param recorded when the result was recorded, as an ISO-8601 instant.
+     * @param benchmark the benchmark class, e.g. {@code JsonValidateBenchmark}.
+     * @param testCase the benchmark method, e.g. {@code measureDraft_07_Medeia}.
+     * @param mode the JMH mode, e.g. {@code avgt}.
+     * @param params the JMH params, if any.
+     * @param implementation the short name of the implementation benchmarked.
+     * @param version the version of the implementation benchmarked.
+     * @param score the score.
+     * @param scoreError the score error, if known.
+     * @param scoreUnit the unit of the score.
+     * @param samples the score of each measurement iteration, across all forks, if known.
+     */
+    @JsonCreator
+    public HistoryEntry(
+            @JsonProperty(value = "recorded", required = true) final String recorded,
+            @JsonProperty(value = "benchmark", required = true) final String benchmark,
+            @JsonProperty(value = "testCase", required = true) final String testCase,
+            @JsonProperty(value = "mode", required = true) final String mode,
+            @JsonProperty(value = "params") final Map<String, String> params,
+            @JsonProperty(value = "implementation", required = true) final String implementation,
+            @JsonProperty(value = "version", required = true) final String version,
+            @JsonProperty(value = "score", required = true) final BigDecimal score,
+            @JsonProperty(value = "scoreError") final BigDecimal scoreError,
+            @JsonProperty(value = "scoreUnit", required = true) final String scoreUnit,
+            @JsonProperty(value = "samples") final List<BigDecimal> samples) {
+        this.recorded = requireNonNull(recorded, "recorded");
+        this.benchmark = requireNonNull(benchmark, "benchmark");
+        this.testCase = requireNonNull(testCase, "testCase");
+        this.mode = requireNonNull(mode, "mode");
+        this.params =
+                params == null
+                        ? Map.of()
+                        : Collections.unmodifiableMap(new LinkedHashMap<>(params));
+        this.implementation = requireNonNull(implementation, "implementation");
+        this.version = requireNonNull(version, "version");
+        this.score = requireNonNull(score, "score");
+        this.scoreError = scoreError;
+        this.scoreUnit = requireNonNull(scoreUnit, "scoreUnit");
+        this.samples = samples == null ? List.of() : List.copyOf(samples);
+    }
+
+    @JsonProperty("recorded")
+    public String recorded() {
+        return recorded;
+    }
+
+    @JsonProperty("benchmark")
+    public String benchmark() {
+        return benchmark;
+    }
+
+    @JsonProperty("testCase")
+    public String testCase() {
+        return testCase;
+    }
+
+    @JsonProperty("mode")
+    public String mode() {
+        return mode;
+    }
+
+    @JsonProperty("params")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public Map<String, String> params() {
+        return params;
+    }
+
+    @JsonProperty("implementation")
+    public String implementation() {
+        return implementation;
+    }
+
+    @JsonProperty("version")
+    public String version() {
+        return version;
+    }
+
+    @JsonProperty("score")
+    public BigDecimal score() {
+        return score;
+    }
+
+    public Optional<BigDecimal> scoreError() {
+        return Optional.ofNullable(scoreError);
+    }
+
+    @JsonProperty("scoreUnit")
+    public String scoreUnit() {
+        return scoreUnit;
+    }
+
+    @JsonProperty("samples")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public List<BigDecimal> samples() {
+        return samples;
+    }
+
+    /**
+     * @return a key identifying the benchmark, i.e. its class, method, mode and params, but not
+     *     the version of the implementation.
+     */
+    public String key() {
+        return benchmark + "." + testCase + params + " (" + mode + ")";
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final HistoryEntry that = (HistoryEntry) o;
+        return Objects.equals(recorded, that.recorded)
+                && Objects.equals(benchmark, that.benchmark)
+                && Objects.equals(testCase, that.testCase)
+                && Objects.equals(mode, that.mode)
+                && Objects.equals(params, that.params)
+                && Objects.equals(implementation, that.implementation)
+                && Objects.equals(version, that.version)
+                && Objects.equals(score, that.score)
+                && Objects.equals(scoreError, that.scoreError)
+                && Objects.equals(scoreUnit, that.scoreUnit)
+                && Objects.equals(samples, that.samples);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                recorded,
+                benchmark,
+                testCase,
+                mode,
+                params,
+                implementation,
+                version,
+                score,
+                scoreError,
+                scoreUnit,
+                samples);
+    }
+
+    @Override
+    public String toString() {
+        return key() + " " + implementation + " " + version + ": " + score + " " + scoreUnit;
+    }
+}
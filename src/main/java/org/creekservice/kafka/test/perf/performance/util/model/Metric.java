@@ -21,6 +21,9 @@ import static java.util.Objects.requireNonNull;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -30,15 +33,26 @@ public final class Metric {
     private final BigDecimal score;
     private final Optional<BigDecimal> scoreError;
     private final String scoreUnit;
+    private final Map<String, BigDecimal> scorePercentiles;
+
+    public Metric(final BigDecimal score, final Object scoreError, final String scoreUnit) {
+        this(score, scoreError, scoreUnit, Map.of());
+    }
 
     @JsonCreator
     public Metric(
             @JsonProperty(value = "score", required = true) final BigDecimal score,
             @JsonProperty(value = "scoreError", required = true) final Object scoreError,
-            @JsonProperty(value = "scoreUnit", required = true) final String scoreUnit) {
+            @JsonProperty(value = "scoreUnit", required = true) final String scoreUnit,
+            @JsonProperty(value = "scorePercentiles")
+                    final Map<String, BigDecimal> scorePercentiles) {
         this.score = requireNonNull(score, "score");
         this.scoreError = optionalDecimal(requireNonNull(scoreError, "scoreError"));
         this.scoreUnit = requireNonNull(scoreUnit, "scoreUnit");
+        this.scorePercentiles =
+                scorePercentiles == null
+                        ? Map.of()
+                        : Collections.unmodifiableMap(new LinkedHashMap<>(scorePercentiles));
     }
 
     public BigDecimal score() {
@@ -53,6 +67,18 @@ public final class Metric {
         return scoreUnit;
     }
 
+    /**
+     * Percentiles of the score, keyed by percentile, e.g. {@code 99.9}.
+     *
+     * <p>Most useful for {@code SampleTime} benchmarks, where the percentiles are of the sampled
+     * operation times.
+     *
+     * @return the percentiles, if any, in the order JMH reported them.
+     */
+    public Map<String, BigDecimal> scorePercentiles() {
+        return scorePercentiles;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -64,12 +90,13 @@ public final class Metric {
         final Metric metric = (Metric) o;
         return Objects.equals(score, metric.score)
                 && Objects.equals(scoreError, metric.scoreError)
-                && Objects.equals(scoreUnit, metric.scoreUnit);
+                && Objects.equals(scoreUnit, metric.scoreUnit)
+                && Objects.equals(scorePercentiles, metric.scorePercentiles);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(score, scoreError, scoreUnit);
+        return Objects.hash(score, scoreError, scoreUnit, scorePercentiles);
     }
 
     private static Optional<BigDecimal> optionalDecimal(final Object decimal) {
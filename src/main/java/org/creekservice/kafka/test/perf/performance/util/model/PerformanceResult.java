@@ -16,10 +16,13 @@
 
 package org.creekservice.kafka.test.perf.performance.util.model;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public final class PerformanceResult {
@@ -27,21 +30,36 @@ public final class PerformanceResult {
     private static final String PERFORMANCE_PACKAGE =
             "org.creekservice.kafka.test.perf.performance.";
 
+    /** JMH prefixes the names of metrics reported by profilers with a middle dot. */
+    private static final String PROFILER_PREFIX = "\u00b7";
+
     private final String testClass;
     private final String testCase;
 
     private final String mode;
+    private final Map<String, String> params;
     private final Metric metric;
+    private final Map<String, Metric> secondaryMetrics;
+
+    public PerformanceResult(
+            final String benchmark, final String mode, final Metric primaryMetric) {
+        this(benchmark, mode, Map.of(), primaryMetric, Map.of());
+    }
 
     @JsonCreator
     public PerformanceResult(
             @JsonProperty(value = "benchmark", required = true) final String benchmark,
             @JsonProperty(value = "mode", required = true) final String mode,
-            @JsonProperty(value = "primaryMetric", required = true) final Metric primaryMetric) {
+            @JsonProperty(value = "params") final Map<String, String> params,
+            @JsonProperty(value = "primaryMetric", required = true) final Metric primaryMetric,
+            @JsonProperty(value = "secondaryMetrics")
+                    final Map<String, Metric> secondaryMetrics) {
         this.testClass = extractTestClass(requireNonNull(benchmark, "benchmark"));
         this.testCase = extractTestCase(benchmark);
         this.mode = requireNonNull(mode, "mode");
+        this.params = params == null ? Map.of() : unmodifiableMap(new LinkedHashMap<>(params));
         this.metric = requireNonNull(primaryMetric, "primaryMetric");
+        this.secondaryMetrics = extractSecondaryMetrics(secondaryMetrics);
     }
 
     public String testClass() {
@@ -56,10 +74,29 @@ public final class PerformanceResult {
         return mode;
     }
 
+    /**
+     * @return the benchmark parameters, if any, in the order JMH reported them.
+     */
+    public Map<String, String> params() {
+        return params;
+    }
+
     public Metric metric() {
         return metric;
     }
 
+    /**
+     * Secondary metrics, e.g. those reported by profilers.
+     *
+     * <p>JMH prefixes the names of profiler metrics with {@code ·}. This prefix is removed, e.g.
+     * {@code ·gc.alloc.rate} becomes {@code gc.alloc.rate}.
+     *
+     * @return the secondary metrics, if any, in the order JMH reported them.
+     */
+    public Map<String, Metric> secondaryMetrics() {
+        return secondaryMetrics;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -72,12 +109,14 @@ public final class PerformanceResult {
         return Objects.equals(testClass, that.testClass)
                 && Objects.equals(testCase, that.testCase)
                 && Objects.equals(mode, that.mode)
-                && Objects.equals(metric, that.metric);
+                && Objects.equals(params, that.params)
+                && Objects.equals(metric, that.metric)
+                && Objects.equals(secondaryMetrics, that.secondaryMetrics);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(testClass, testCase, mode, metric);
+        return Objects.hash(testClass, testCase, mode, params, metric, secondaryMetrics);
     }
 
     private static String extractTestClass(final String benchmark) {
@@ -88,4 +127,20 @@ public final class PerformanceResult {
     private static String extractTestCase(final String benchmark) {
         return benchmark.substring(benchmark.lastIndexOf(".") + 1);
     }
+
+    private static Map<String, Metric> extractSecondaryMetrics(final Map<String, Metric> metrics) {
+        if (metrics == null) {
+            return Map.of();
+        }
+
+        final Map<String, Metric> extracted = new LinkedHashMap<>();
+        metrics.forEach(
+                (name, metric) ->
+                        extracted.put(
+                                name.startsWith(PROFILER_PREFIX)
+                                        ? name.substring(PROFILER_PREFIX.length())
+                                        : name,
+                                metric));
+        return unmodifiableMap(extracted);
+    }
 }
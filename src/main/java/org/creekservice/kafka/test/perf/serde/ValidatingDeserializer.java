@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.serde;
+
+import static java.util.Objects.requireNonNull;
+
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+
+/**
+ * Kafka deserializer that reads the Confluent wire format and validates the payload using the
+ * supplied {@link Implementation}.
+ *
+ * <p>The schema id in each record is resolved through the schema registry the first time it is
+ * seen. The validator prepared from the resolved schema is then cached for subsequent records.
+ */
+public final class ValidatingDeserializer implements Deserializer<TestModel> {
+
+    private final SchemaRegistryClient registry;
+    private final Implementation impl;
+    private final SchemaSpec spec;
+    private final Map<Integer, JsonValidator> validators = new ConcurrentHashMap<>();
+
+    /**
+     * @param registry the schema registry client.
+     * @param impl the implementation to validate with.
+     * @param spec the schema specification the registered schemas conform to.
+     */
+    public ValidatingDeserializer(
+            final SchemaRegistryClient registry, final Implementation impl, final SchemaSpec spec) {
+        this.registry = requireNonNull(registry, "registry");
+        this.impl = requireNonNull(impl, "impl");
+        this.spec = requireNonNull(spec, "spec");
+    }
+
+    @Override
+    public TestModel deserialize(final String topic, final byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        final int schemaId = WireFormat.schemaId(data);
+        final JsonValidator validator =
+                validators.computeIfAbsent(schemaId, id -> prepare(WireFormat.subject(topic), id));
+        return validator.deserialize(WireFormat.payload(data));
+    }
+
+    private JsonValidator prepare(final String subject, final int schemaId) {
+        final ParsedSchema schema = lookup(subject, schemaId);
+        return impl.prepare(
+                schema.canonicalString(),
+                spec,
+                new AdditionalSchemas(Map.of(), Path.of("")),
+                false);
+    }
+
+    private ParsedSchema lookup(final String subject, final int schemaId) {
+        try {
+            return registry.getSchemaBySubjectAndId(subject, schemaId);
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException(
+                    "Failed to look up schema. subject: " + subject + ", id: " + schemaId, e);
+        }
+    }
+}
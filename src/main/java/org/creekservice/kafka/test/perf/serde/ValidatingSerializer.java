@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.serde;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.confluent.kafka.schemaregistry.ParsedSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+
+/**
+ * Kafka serializer that validates the model against its schema using the supplied {@link
+ * JsonValidator} and frames it in the Confluent wire format.
+ *
+ * <p>Like Confluent's own serializers with {@code auto.register.schemas} enabled, the schema is
+ * registered for every record, relying on the registry client to cache the id.
+ */
+public final class ValidatingSerializer implements Serializer<TestModel> {
+
+    private final SchemaRegistryClient registry;
+    private final ParsedSchema schema;
+    private final JsonValidator validator;
+
+    /**
+     * @param registry the schema registry client.
+     * @param schema the schema to register.
+     * @param validator the validator, prepared with the same {@code schema}.
+     */
+    public ValidatingSerializer(
+            final SchemaRegistryClient registry,
+            final ParsedSchema schema,
+            final JsonValidator validator) {
+        this.registry = requireNonNull(registry, "registry");
+        this.schema = requireNonNull(schema, "schema");
+        this.validator = requireNonNull(validator, "validator");
+    }
+
+    @SuppressFBWarnings(
+            value = "PZLA_PREFER_ZERO_LENGTH_ARRAYS",
+            justification = "Kafka serializers must return null for null, i.e. tombstones")
+    @Override
+    public byte[] serialize(final String topic, final TestModel model) {
+        if (model == null) {
+            return null;
+        }
+
+        final int schemaId = register(WireFormat.subject(topic));
+        return WireFormat.frame(schemaId, validator.serialize(model, true));
+    }
+
+    private int register(final String subject) {
+        try {
+            return registry.register(subject, schema);
+        } catch (IOException | RestClientException e) {
+            throw new SerializationException("Failed to register schema. subject: " + subject, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.serde;
+
+import java.nio.ByteBuffer;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * The Confluent wire format: a magic byte, followed by the 4-byte id of the schema in the schema
+ * registry, followed by the serialized payload.
+ */
+final class WireFormat {
+
+    static final byte MAGIC_BYTE = 0x0;
+    static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private WireFormat() {}
+
+    /**
+     * Get the subject a topic's value schema is registered under, following the default {@code
+     * TopicNameStrategy}.
+     *
+     * @param topic the topic name.
+     * @return the subject.
+     */
+    static String subject(final String topic) {
+        return topic + "-value";
+    }
+
+    /**
+     * Prefix the payload with the wire format header.
+     *
+     * @param schemaId the id of the schema the payload was serialized with.
+     * @param payload the payload.
+     * @return the framed payload.
+     */
+    static byte[] frame(final int schemaId, final byte[] payload) {
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(MAGIC_BYTE)
+                .putInt(schemaId)
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * Read the schema id from the header.
+     *
+     * @param data the framed data.
+     * @return the schema id.
+     * @throws SerializationException if the data is not in the wire format.
+     */
+    static int schemaId(final byte[] data) {
+        if (data.length < HEADER_SIZE || data[0] != MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte or truncated header");
+        }
+        return ByteBuffer.wrap(data, 1, Integer.BYTES).getInt();
+    }
+
+    /**
+     * Get the payload, i.e. the data without the header, without copying.
+     *
+     * @param data the framed data.
+     * @return a buffer over the payload.
+     */
+    static ByteBuffer payload(final byte[] data) {
+        return ByteBuffer.wrap(data, HEADER_SIZE, data.length - HEADER_SIZE).slice();
+    }
+}
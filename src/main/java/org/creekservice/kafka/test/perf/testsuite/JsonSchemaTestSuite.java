@@ -16,6 +16,7 @@
 
 package org.creekservice.kafka.test.perf.testsuite;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -28,12 +29,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.creekservice.kafka.test.perf.implementations.Implementation;
 import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
 import org.creekservice.kafka.test.perf.model.TestModel;
-import org.creekservice.kafka.test.perf.util.Executable;
 
 public final class JsonSchemaTestSuite {
 
@@ -64,12 +67,83 @@ public final class JsonSchemaTestSuite {
         TestPredicate ALL = new TestPredicate() {};
     }
 
+    /** The form in which test case data is passed to the validator under test. */
+    public enum DataFormat {
+        /** Data is passed as a {@code String}, via {@link JsonValidator#validate(String)}. */
+        STRING,
+        /** Data is passed as UTF-8 bytes, via {@link JsonValidator#validate(byte[])}. */
+        BYTES,
+        /** Data is only parsed, via {@link JsonValidator#parse(String)}, and not validated. */
+        PARSE_ONLY,
+        /**
+         * Data is parsed once, via {@link JsonValidator#parse(String)}, and the parsed data is
+         * passed to {@link JsonValidator#validateParsed(Object)}. Data is parsed when the runner is
+         * prepared, if prepared for this format, otherwise on first use. Subsequent runs therefore
+         * measure only validation.
+         */
+        PRE_PARSED
+    }
+
     public interface Runner {
-        Result run(Predicate<SchemaSpec> spec);
+        default Result run(Predicate<SchemaSpec> spec) {
+            return run(spec, DataFormat.STRING);
+        }
+
+        Result run(Predicate<SchemaSpec> spec, DataFormat format);
     }
 
     public Runner prepare(final Implementation implementation, final TestPredicate testPredicate) {
-        final Map<SchemaSpec, Executable<SpecResult>> prepared =
+        return prepare(implementation, testPredicate, JsonSchemaTestSuite::enableFormatAssertions);
+    }
+
+    /**
+     * Prepare a runner for specific data formats.
+     *
+     * <p>If {@code formats} contains {@link DataFormat#PRE_PARSED}, test data is parsed while the
+     * runner is prepared, so that no run includes the cost of parsing. Runners are otherwise
+     * able to run any format, but only parse test data on first use, so that runners that never
+     * use pre-parsed data do not pay to parse and retain it.
+     *
+     * @param implementation the implementation to prepare validators with.
+     * @param testPredicate predicate controlling which tests are run.
+     * @param formats the data formats the runner will be run with.
+     * @return the runner.
+     */
+    public Runner prepare(
+            final Implementation implementation,
+            final TestPredicate testPredicate,
+            final Set<DataFormat> formats) {
+        return prepare(
+                implementation,
+                testPredicate,
+                JsonSchemaTestSuite::enableFormatAssertions,
+                formats.contains(DataFormat.PRE_PARSED));
+    }
+
+    /**
+     * Prepare a runner, controlling which test suites are run with format assertions enabled.
+     *
+     * <p>By default, format assertions are only enabled for the optional format test suites.
+     *
+     * @param implementation the implementation to prepare validators with.
+     * @param testPredicate predicate controlling which tests are run.
+     * @param formatAssertions predicate controlling which test suites have format assertions
+     *     enabled.
+     * @return the runner.
+     */
+    public Runner prepare(
+            final Implementation implementation,
+            final TestPredicate testPredicate,
+            final Predicate<TestSuite> formatAssertions) {
+        return prepare(implementation, testPredicate, formatAssertions, false);
+    }
+
+    private Runner prepare(
+            final Implementation implementation,
+            final TestPredicate testPredicate,
+            final Predicate<TestSuite> formatAssertions,
+            final boolean preParse) {
+        final Map<SchemaSpec, Function<DataFormat, SpecResult>> prepared =
                 tests.stream()
                         .filter(suites -> testPredicate.test(suites.spec()))
                         .filter(suites -> implementation.supports(suites.spec()))
@@ -78,27 +152,61 @@ public final class JsonSchemaTestSuite {
                                         SpecTestSuites::spec,
                                         suites ->
                                                 prepareSpecSuites(
-                                                        suites, implementation, testPredicate)));
+                                                        suites,
+                                                        implementation,
+                                                        testPredicate,
+                                                        formatAssertions,
+                                                        preParse)));
 
-        return specPredicate -> {
+        return (specPredicate, format) -> {
             final Instant start = Instant.now();
 
             final List<SpecResult> results =
                     prepared.entrySet().stream()
                             .filter(e -> specPredicate.test(e.getKey()))
                             .map(Map.Entry::getValue)
-                            .map(Executable::exec)
+                            .map(specSuites -> specSuites.apply(format))
                             .collect(Collectors.toList());
 
             return new Result(Duration.between(start, Instant.now()), results);
         };
     }
 
-    private Executable<SpecResult> prepareSpecSuites(
+    /**
+     * Build a schema compilation for each test suite of the supplied {@code spec}.
+     *
+     * <p>Each compilation prepares a new validator for its test suite's schema every time it is
+     * invoked, allowing the cost of preparing validators to be measured. Schemas the {@code
+     * implementation} fails to prepare are excluded.
+     *
+     * @param implementation the implementation to prepare validators with.
+     * @param spec the spec whose test suite schemas should be prepared.
+     * @return the schema compilations.
+     */
+    public List<Supplier<JsonValidator>> prepareSchemas(
+            final Implementation implementation, final SchemaSpec spec) {
+        return tests.stream()
+                .filter(suites -> suites.spec() == spec)
+                .flatMap(suites -> suites.testSuites().stream())
+                .map(suite -> compilation(implementation, spec, suite))
+                .filter(JsonSchemaTestSuite::prepares)
+                .collect(Collectors.toList());
+    }
+
+    private Supplier<JsonValidator> compilation(
+            final Implementation implementation, final SchemaSpec spec, final TestSuite suite) {
+        final boolean formatAssertions = enableFormatAssertions(suite);
+        return () ->
+                implementation.prepare(suite.schema(), spec, additionalSchemas, formatAssertions);
+    }
+
+    private Function<DataFormat, SpecResult> prepareSpecSuites(
             final SpecTestSuites specSuites,
             final Implementation implementation,
-            final TestPredicate testPredicate) {
-        final List<Executable<List<TestResult>>> prepared =
+            final TestPredicate testPredicate,
+            final Predicate<TestSuite> formatAssertions,
+            final boolean preParse) {
+        final List<Function<DataFormat, List<TestResult>>> prepared =
                 specSuites.testSuites().stream()
                         .filter(testPredicate::test)
                         .map(
@@ -107,13 +215,15 @@ public final class JsonSchemaTestSuite {
                                                 specSuites.spec(),
                                                 suite,
                                                 implementation,
-                                                testPredicate))
+                                                testPredicate,
+                                                formatAssertions.test(suite),
+                                                preParse))
                         .collect(Collectors.toList());
 
-        return () -> {
+        return format -> {
             final List<TestResult> results =
                     prepared.stream()
-                            .map(Executable::exec)
+                            .map(suite -> suite.apply(format))
                             .flatMap(List::stream)
                             .collect(Collectors.toList());
 
@@ -121,31 +231,61 @@ public final class JsonSchemaTestSuite {
         };
     }
 
-    private Executable<List<TestResult>> prepareSuite(
+    private Function<DataFormat, List<TestResult>> prepareSuite(
             final SchemaSpec spec,
             final TestSuite suite,
             final Implementation implementation,
-            final TestPredicate testPredicate) {
+            final TestPredicate testPredicate,
+            final boolean formatAssertions,
+            final boolean preParse) {
 
-        final JsonValidator validator = prepareValidator(spec, suite, implementation);
+        final JsonValidator validator =
+                prepareValidator(spec, suite, implementation, formatAssertions);
 
-        return () ->
+        final List<Function<DataFormat, TestResult>> tests =
                 suite.tests().stream()
                         .filter(testPredicate::test)
-                        .map(test -> runTest(validator, test, suite))
+                        .map(test -> prepareTest(validator, test, suite, preParse))
                         .collect(Collectors.toList());
+
+        return format ->
+                tests.stream().map(test -> test.apply(format)).collect(Collectors.toList());
+    }
+
+    private Function<DataFormat, TestResult> prepareTest(
+            final JsonValidator validator,
+            final TestCase test,
+            final TestSuite suite,
+            final boolean preParse) {
+        final String json = test.getData();
+        final byte[] bytes = json.getBytes(UTF_8);
+        final Supplier<Object> parsed =
+                preParse ? parseNow(validator, json) : new PreParsed(validator, json);
+
+        return format -> {
+            switch (format) {
+                case STRING:
+                    return runTest(() -> validator.validate(json), test, suite);
+                case BYTES:
+                    return runTest(() -> validator.validate(bytes), test, suite);
+                case PARSE_ONLY:
+                    return runTest(() -> validator.parse(json), test, suite);
+                case PRE_PARSED:
+                    return runTest(() -> validator.validateParsed(parsed.get()), test, suite);
+                default:
+                    throw new UnsupportedOperationException("Unsupported format: " + format);
+            }
+        };
     }
 
-    @SuppressFBWarnings(
-            value = "NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE",
-            justification = "Known not to be null")
     private JsonValidator prepareValidator(
-            final SchemaSpec spec, final TestSuite suite, final Implementation implementation) {
+            final SchemaSpec spec,
+            final TestSuite suite,
+            final Implementation implementation,
+            final boolean formatAssertions) {
         try {
-            final boolean format =
-                    Paths.get("format").equals(suite.filePath().getParent().getFileName());
             return implementation.prepare(
-                    suite.schema(), spec, additionalSchemas, suite.optional() && format);
+                    suite.schema(), spec, additionalSchemas, formatAssertions);
         } catch (final Throwable t) {
             final RuntimeException e = new RuntimeException("Failed to build validator", t);
             return new JsonValidator() {
@@ -167,10 +307,28 @@ public final class JsonSchemaTestSuite {
         }
     }
 
-    private TestResult runTest(
-            final JsonValidator validator, final TestCase test, final TestSuite suite) {
+    @SuppressFBWarnings(
+            value = "NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE",
+            justification = "Known not to be null")
+    private static boolean enableFormatAssertions(final TestSuite suite) {
+        final boolean format =
+                Paths.get("format").equals(suite.filePath().getParent().getFileName());
+        return suite.optional() && format;
+    }
+
+    private static boolean prepares(final Supplier<JsonValidator> compilation) {
+        try {
+            compilation.get();
+            return true;
+        } catch (final Throwable t) {
+            return false;
+        }
+    }
+
+    private static TestResult runTest(
+            final Runnable validation, final TestCase test, final TestSuite suite) {
         try {
-            validator.validate(test.getData());
+            validation.run();
             return test.valid()
                     ? TestResult.pass(test, suite)
                     : TestResult.fail(test, suite, "Passed when it should have failed");
@@ -183,6 +341,51 @@ public final class JsonSchemaTestSuite {
         }
     }
 
+    /**
+     * Parse the test data while the runner is being prepared, so that the cost of parsing is never
+     * included in a {@link DataFormat#PRE_PARSED} run.
+     *
+     * @return supplier of the parsed data, which rethrows any parse failure, e.g. if the validator
+     *     does not support pre-parsed data.
+     */
+    private static Supplier<Object> parseNow(final JsonValidator validator, final String json) {
+        try {
+            final Object parsed = validator.parse(json);
+            return () -> parsed;
+        } catch (final RuntimeException e) {
+            return () -> {
+                throw e;
+            };
+        }
+    }
+
+    /**
+     * Lazily parsed test data.
+     *
+     * <p>Parsing is deferred until first use, so that runs that do not need the parsed data do not
+     * pay to parse and retain it.
+     */
+    private static final class PreParsed implements Supplier<Object> {
+        private final JsonValidator validator;
+        private final String json;
+        private volatile Object parsed;
+
+        PreParsed(final JsonValidator validator, final String json) {
+            this.validator = requireNonNull(validator, "validator");
+            this.json = requireNonNull(json, "json");
+        }
+
+        @Override
+        public Object get() {
+            Object result = parsed;
+            if (result == null) {
+                result = validator.parse(json);
+                parsed = result;
+            }
+            return result;
+        }
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     public static final class TestResult {
         private final TestCase test;
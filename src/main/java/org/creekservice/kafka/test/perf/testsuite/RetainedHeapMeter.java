@@ -0,0 +1,252 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.testsuite;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+
+/**
+ * Measures the heap retained by an implementation's prepared validators.
+ *
+ * <p>Two footprints are measured:
+ *
+ * <ul>
+ *   <li>{@link Measurement#testSchemas()}: validators of the {@link TestSchemas} schemas, i.e. a
+ *       realistic, production-like schema. This is the headline figure.
+ *   <li>{@link Measurement#testSuite()}: validators of the schema of every test suite file the
+ *       implementation supports. Most of these schemas are tiny, so this mostly reflects the fixed
+ *       overhead of each validator.
+ * </ul>
+ *
+ * <p>All validators are prepared once and discarded, so that one-off costs, e.g. class loading and
+ * meta-schemas, are excluded. Each set is then prepared and retained several times, recording the
+ * growth in the heap, after garbage collection, each time. The {@link TestSchemas} schemas are
+ * prepared many times over, as a single validator is too small to measure reliably.
+ *
+ * <p>The result is an approximation: it relies on {@link System#gc()} collecting all garbage, and
+ * includes any state an implementation caches per schema, outside the validator itself. Where the
+ * heap does not grow, or the repeated measurements disagree, the footprint is discarded rather than
+ * reported.
+ */
+public final class RetainedHeapMeter {
+
+    private static final int GC_ROUNDS = 5;
+
+    /** The number of times each set of validators is measured. */
+    private static final int MEASUREMENTS = 3;
+
+    /** The maximum spread of measurements, relative to their median, before they are discarded. */
+    private static final double MAX_SPREAD = 0.1;
+
+    /** The number of copies of each {@link TestSchemas} validator to prepare. */
+    private static final int TEST_SCHEMA_COPIES = 100;
+
+    /** The footprints of an implementation's validators. */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    public static final class Measurement {
+
+        private final Optional<Footprint> testSchemas;
+        private final Optional<Footprint> testSuite;
+
+        Measurement(final Optional<Footprint> testSchemas, final Optional<Footprint> testSuite) {
+            this.testSchemas = requireNonNull(testSchemas, "testSchemas");
+            this.testSuite = requireNonNull(testSuite, "testSuite");
+        }
+
+        /**
+         * @return the footprint of {@link TestSchemas} validators, or empty if it could not be
+         *     reliably measured.
+         */
+        public Optional<Footprint> testSchemas() {
+            return testSchemas;
+        }
+
+        /**
+         * @return the footprint of test suite validators, or empty if it could not be reliably
+         *     measured.
+         */
+        public Optional<Footprint> testSuite() {
+            return testSuite;
+        }
+
+        @Override
+        public String toString() {
+            return "test schemas: "
+                    + testSchemas.map(Footprint::toString).orElse("unreliable")
+                    + ", test suite: "
+                    + testSuite.map(Footprint::toString).orElse("unreliable");
+        }
+    }
+
+    /** The heap retained by a set of prepared validators. */
+    public static final class Footprint {
+
+        private final int validators;
+        private final long retainedBytes;
+
+        Footprint(final int validators, final long retainedBytes) {
+            this.validators = validators;
+            this.retainedBytes = retainedBytes;
+        }
+
+        /** @return the number of validators prepared. */
+        public int validators() {
+            return validators;
+        }
+
+        /** @return the total heap retained by the validators, in bytes. */
+        public long retainedBytes() {
+            return retainedBytes;
+        }
+
+        /** @return the average heap retained per validator, in bytes. */
+        public long bytesPerValidator() {
+            return validators == 0 ? 0 : retainedBytes / validators;
+        }
+
+        @Override
+        public String toString() {
+            return bytesPerValidator() + " bytes per validator (" + validators + " validators)";
+        }
+    }
+
+    private final JsonSchemaTestSuite testSuite;
+    private final int testSchemaCopies;
+    private final LongSupplier heapUsed;
+
+    /** @param testSuite the test suite whose schemas should be prepared. */
+    public RetainedHeapMeter(final JsonSchemaTestSuite testSuite) {
+        this(testSuite, TEST_SCHEMA_COPIES, RetainedHeapMeter::heapUsed);
+    }
+
+    RetainedHeapMeter(
+            final JsonSchemaTestSuite testSuite,
+            final int testSchemaCopies,
+            final LongSupplier heapUsed) {
+        this.testSuite = requireNonNull(testSuite, "testSuite");
+        this.testSchemaCopies = testSchemaCopies;
+        this.heapUsed = requireNonNull(heapUsed, "heapUsed");
+    }
+
+    /**
+     * Measure the supplied {@code implementation}.
+     *
+     * @param implementation the implementation to measure.
+     * @return the footprints of its validators.
+     */
+    public Measurement measure(final Implementation implementation) {
+        final List<Supplier<JsonValidator>> testSchemas = testSchemas(implementation);
+        final List<Supplier<JsonValidator>> suite = testSuite(implementation);
+
+        // Exclude one-off costs:
+        prepareAll(testSchemas);
+        prepareAll(suite);
+
+        return new Measurement(measure(testSchemas), measure(suite));
+    }
+
+    private Optional<Footprint> measure(final List<Supplier<JsonValidator>> compilations) {
+        if (compilations.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final long[] retained = new long[MEASUREMENTS];
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            final long before = heapUsed.getAsLong();
+            final List<JsonValidator> validators = prepareAll(compilations);
+            final long after = heapUsed.getAsLong();
+            Reference.reachabilityFence(validators);
+            retained[i] = after - before;
+        }
+
+        Arrays.sort(retained);
+        final long min = retained[0];
+        final long median = retained[MEASUREMENTS / 2];
+        final long max = retained[MEASUREMENTS - 1];
+
+        if (min <= 0 || max - min > median * MAX_SPREAD) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Footprint(compilations.size(), median));
+    }
+
+    private List<Supplier<JsonValidator>> testSchemas(final Implementation implementation) {
+        final AdditionalSchemas additionalSchemas = new AdditionalSchemas(Map.of(), Path.of(""));
+
+        final List<Supplier<JsonValidator>> compilations = new ArrayList<>();
+        for (final SchemaSpec spec : SchemaSpec.values()) {
+            final String schema;
+            if (spec == SchemaSpec.DRAFT_07) {
+                schema = TestSchemas.DRAFT_7_SCHEMA;
+            } else if (spec == SchemaSpec.DRAFT_2020_12) {
+                schema = TestSchemas.DRAFT_2020_SCHEMA;
+            } else {
+                continue;
+            }
+
+            if (implementation.supports(spec)) {
+                for (int i = 0; i < testSchemaCopies; i++) {
+                    compilations.add(
+                            () -> implementation.prepare(schema, spec, additionalSchemas, false));
+                }
+            }
+        }
+        return compilations;
+    }
+
+    private List<Supplier<JsonValidator>> testSuite(final Implementation implementation) {
+        final List<Supplier<JsonValidator>> compilations = new ArrayList<>();
+        for (final SchemaSpec spec : SchemaSpec.values()) {
+            if (implementation.supports(spec)) {
+                compilations.addAll(testSuite.prepareSchemas(implementation, spec));
+            }
+        }
+        return compilations;
+    }
+
+    private static List<JsonValidator> prepareAll(
+            final List<Supplier<JsonValidator>> compilations) {
+        final List<JsonValidator> validators = new ArrayList<>(compilations.size());
+        for (final Supplier<JsonValidator> compilation : compilations) {
+            validators.add(compilation.get());
+        }
+        return validators;
+    }
+
+    @SuppressFBWarnings(value = "DM_GC", justification = "Only live objects should be measured")
+    static long heapUsed() {
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
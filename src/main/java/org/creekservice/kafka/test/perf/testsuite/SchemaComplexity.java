@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.testsuite;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates schemas of increasing complexity, along with a document that is valid against them.
+ *
+ * <p>Unlike the JSON-Schema-Test-Suite, whose schemas are small and test compliance, these schemas
+ * are designed to show how the cost of preparing and validating scales as one aspect of a schema
+ * grows. All the schemas validate a document with a single {@code value} property.
+ */
+public enum SchemaComplexity {
+    /** A chain of {@code complexity} definitions, each a {@code $ref} to the next. */
+    REF_DEPTH {
+        @Override
+        ObjectNode valueSchema(
+                final ObjectNode root, final String defsKeyword, final int complexity) {
+            final ObjectNode defs = root.putObject(defsKeyword);
+            for (int i = 0; i < complexity - 1; i++) {
+                defs.putObject("d" + i).put("$ref", "#/" + defsKeyword + "/d" + (i + 1));
+            }
+            defs.set("d" + (complexity - 1), text());
+            return ref(defsKeyword, 0);
+        }
+
+        @Override
+        String valueJson(final int complexity) {
+            return "\"some text\"";
+        }
+    },
+    /** A {@code oneOf} with {@code complexity} branches. The document matches the last. */
+    ONE_OF_FANOUT {
+        @Override
+        ObjectNode valueSchema(
+                final ObjectNode root, final String defsKeyword, final int complexity) {
+            return fanOut("oneOf", complexity);
+        }
+
+        @Override
+        String valueJson(final int complexity) {
+            return kind(complexity - 1);
+        }
+    },
+    /** An {@code anyOf} with {@code complexity} branches. The document matches the last. */
+    ANY_OF_FANOUT {
+        @Override
+        ObjectNode valueSchema(
+                final ObjectNode root, final String defsKeyword, final int complexity) {
+            return fanOut("anyOf", complexity);
+        }
+
+        @Override
+        String valueJson(final int complexity) {
+            return kind(complexity - 1);
+        }
+    },
+    /** {@code complexity} definitions, only one of which is referenced. */
+    DEFS_SIZE {
+        @Override
+        ObjectNode valueSchema(
+                final ObjectNode root, final String defsKeyword, final int complexity) {
+            final ObjectNode defs = root.putObject(defsKeyword);
+            for (int i = 0; i < complexity; i++) {
+                final ObjectNode def = defs.putObject("d" + i);
+                def.put("type", "object");
+                def.putObject("properties").set("kind", constant("kind-" + i));
+                def.putArray("required").add("kind");
+            }
+            return ref(defsKeyword, complexity / 2);
+        }
+
+        @Override
+        String valueJson(final int complexity) {
+            return kind(complexity / 2);
+        }
+    },
+    /** {@code complexity} levels of nested {@code allOf}. */
+    ALL_OF_DEPTH {
+        @Override
+        ObjectNode valueSchema(
+                final ObjectNode root, final String defsKeyword, final int complexity) {
+            ObjectNode value = text();
+            for (int i = 0; i < complexity; i++) {
+                final ObjectNode parent = MAPPER.createObjectNode();
+                final ArrayNode allOf = parent.putArray("allOf");
+                allOf.addObject().put("type", "string");
+                allOf.add(value);
+                value = parent;
+            }
+            return value;
+        }
+
+        @Override
+        String valueJson(final int complexity) {
+            return "\"some text\"";
+        }
+    };
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    /**
+     * Generate a schema.
+     *
+     * @param spec the schema specification to generate for: one of draft-07 or 2020-12.
+     * @param complexity the complexity of the schema, e.g. the depth or fan-out, at least one.
+     * @return the schema.
+     */
+    public String schema(final SchemaSpec spec, final int complexity) {
+        if (complexity < 1) {
+            throw new IllegalArgumentException("complexity must be positive: " + complexity);
+        }
+
+        final ObjectNode root = MAPPER.createObjectNode();
+        root.put("$schema", spec.uri().toString());
+        root.put("type", "object");
+        root.put("additionalProperties", false);
+        final ObjectNode properties = root.putObject("properties");
+        root.putArray("required").add("value");
+        properties.set("value", valueSchema(root, defsKeyword(spec), complexity));
+
+        try {
+            return MAPPER.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @param complexity the complexity of the schema.
+     * @return a document valid against the schema of the same {@code complexity}.
+     */
+    public String document(final int complexity) {
+        return "{\"value\":" + valueJson(complexity) + "}";
+    }
+
+    abstract ObjectNode valueSchema(ObjectNode root, String defsKeyword, int complexity);
+
+    abstract String valueJson(int complexity);
+
+    private static String defsKeyword(final SchemaSpec spec) {
+        switch (spec) {
+            case DRAFT_07:
+                return "definitions";
+            case DRAFT_2020_12:
+                return "$defs";
+            default:
+                throw new UnsupportedOperationException("Unsupported spec: " + spec);
+        }
+    }
+
+    private static ObjectNode text() {
+        final ObjectNode text = MAPPER.createObjectNode();
+        text.put("type", "string");
+        text.put("minLength", 1);
+        return text;
+    }
+
+    private static ObjectNode ref(final String defsKeyword, final int index) {
+        return MAPPER.createObjectNode().put("$ref", "#/" + defsKeyword + "/d" + index);
+    }
+
+    private static ObjectNode constant(final String value) {
+        return MAPPER.createObjectNode().put("const", value);
+    }
+
+    private static ObjectNode fanOut(final String keyword, final int complexity) {
+        final ObjectNode value = MAPPER.createObjectNode();
+        final ArrayNode branches = value.putArray(keyword);
+        for (int i = 0; i < complexity; i++) {
+            final ObjectNode branch = branches.addObject();
+            branch.put("type", "object");
+            branch.putObject("properties").set("kind", constant("kind-" + i));
+            branch.putArray("required").add("kind");
+        }
+        return value;
+    }
+
+    private static String kind(final int index) {
+        return "{\"kind\":\"kind-" + index + "\"}";
+    }
+}
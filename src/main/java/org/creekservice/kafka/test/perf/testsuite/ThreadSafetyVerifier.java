@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.testsuite;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.TestPredicate;
+import org.creekservice.kafka.test.perf.testsuite.JsonSchemaTestSuite.TestResult;
+
+/**
+ * Stress tests an implementation to determine if its prepared validators can be shared across
+ * threads.
+ *
+ * <p>A single set of validators is prepared for the test suite. The suite is first run on the
+ * calling thread, to capture the expected outcome of each test case. The same validators are then
+ * run through the suite concurrently, from many threads, and the outcome of each test case compared
+ * with the expected outcome.
+ */
+public final class ThreadSafetyVerifier {
+
+    /** The outcome of verifying an implementation. */
+    public enum Outcome {
+        /** All concurrent runs matched the single-threaded run. */
+        PASSED("Passed"),
+        /** At least one concurrent run did not match the single-threaded run. */
+        FAILED("Failed");
+
+        private final String text;
+
+        Outcome(final String text) {
+            this.text = requireNonNull(text, "text");
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private final JsonSchemaTestSuite testSuite;
+    private final int threads;
+    private final int iterations;
+
+    /**
+     * @param testSuite the test suite to use as the corpus.
+     * @param threads the number of threads to run concurrently.
+     * @param iterations the number of times each thread should run the test suite.
+     */
+    public ThreadSafetyVerifier(
+            final JsonSchemaTestSuite testSuite, final int threads, final int iterations) {
+        this.testSuite = requireNonNull(testSuite, "testSuite");
+        this.threads = threads;
+        this.iterations = iterations;
+
+        if (threads < 2) {
+            throw new IllegalArgumentException("threads must be at least 2: " + threads);
+        }
+
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be positive: " + iterations);
+        }
+    }
+
+    /**
+     * Verify the supplied {@code implementation}.
+     *
+     * @param implementation the implementation to verify.
+     * @return the outcome.
+     */
+    public Outcome verify(final Implementation implementation) {
+        final JsonSchemaTestSuite.Runner runner =
+                testSuite.prepare(implementation, TestPredicate.ALL);
+
+        final List<Boolean> expected = outcomes(runner);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Boolean>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> matches(runner, expected, start)));
+            }
+
+            // Release all threads at once, to maximise contention:
+            start.countDown();
+
+            boolean passed = true;
+            for (final Future<Boolean> future : futures) {
+                passed &= future.get();
+            }
+            return passed ? Outcome.PASSED : Outcome.FAILED;
+        } catch (final ExecutionException e) {
+            return Outcome.FAILED;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean matches(
+            final JsonSchemaTestSuite.Runner runner,
+            final List<Boolean> expected,
+            final CountDownLatch start)
+            throws InterruptedException {
+        start.await();
+
+        for (int i = 0; i < iterations; i++) {
+            if (!outcomes(runner).equals(expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether each test case passed, in the order the runner executes them.
+     */
+    private static List<Boolean> outcomes(final JsonSchemaTestSuite.Runner runner) {
+        final List<Boolean> outcomes = new ArrayList<>();
+        runner.run(spec -> true).visit((spec, result) -> outcomes.add(passed(result)));
+        return outcomes;
+    }
+
+    private static boolean passed(final TestResult result) {
+        return !result.error() && !result.failed();
+    }
+}
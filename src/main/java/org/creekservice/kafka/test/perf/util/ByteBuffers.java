@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Helpers for working with {@link ByteBuffer} input.
+ *
+ * <p>None of the methods change the position of the supplied buffer.
+ */
+public final class ByteBuffers {
+
+    private ByteBuffers() {}
+
+    /**
+     * Copy the remaining bytes of a buffer to a new array.
+     *
+     * @param buffer the buffer to copy.
+     * @return the copy.
+     */
+    public static byte[] toBytes(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Wrap the remaining bytes of a buffer in an input stream that reads from the buffer.
+     *
+     * <p>Reads copy from the buffer into the caller's array, but no intermediate copy of the whole
+     * buffer is made.
+     *
+     * @param buffer the buffer to wrap.
+     * @return the input stream.
+     */
+    public static InputStream asInputStream(final ByteBuffer buffer) {
+        return new ByteBufferInputStream(buffer.duplicate());
+    }
+
+    /**
+     * Create a Jackson parser over the remaining bytes of a buffer.
+     *
+     * <p>Heap buffers are parsed directly from their backing array. Direct buffers are streamed via
+     * {@link #asInputStream}, i.e. copied in chunks into Jackson's own read buffers, avoiding only
+     * the up-front copy of the whole buffer to a heap array.
+     *
+     * <p>The caller is responsible for closing the parser, so that Jackson's recycled buffers are
+     * released.
+     *
+     * @param mapper the mapper to create the parser with.
+     * @param buffer the buffer to parse.
+     * @return the parser.
+     * @throws IOException on failure to create the parser.
+     */
+    public static JsonParser createParser(final ObjectMapper mapper, final ByteBuffer buffer)
+            throws IOException {
+        if (buffer.hasArray()) {
+            return mapper.createParser(
+                    buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return mapper.createParser(asInputStream(buffer));
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, bytes.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -19,20 +19,59 @@ package org.creekservice.kafka.test.perf.util;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.testsuite.RetainedHeapMeter;
+import org.creekservice.kafka.test.perf.testsuite.ThreadSafetyVerifier;
 
 public final class ImplsJsonFormatter {
 
     public static String implDetailsAsJson(final List<Implementation> impls) {
+        return implDetailsAsJson(impls, Map.of(), Map.of());
+    }
+
+    /**
+     * Format implementation details as JSON.
+     *
+     * @param impls the implementations to format.
+     * @param threadSafety the outcome of verifying the thread safety of implementations. Any
+     *     implementation without an entry will have no {@code threadSafetyVerified} field.
+     * @param footprints the heap retained by the validators of implementations. Any
+     *     implementation without an entry, or whose footprint could not be reliably measured, will
+     *     have no {@code retainedHeap} or {@code testSuiteRetainedHeap} field.
+     * @return the JSON.
+     */
+    public static String implDetailsAsJson(
+            final List<Implementation> impls,
+            final Map<Implementation, ThreadSafetyVerifier.Outcome> threadSafety,
+            final Map<Implementation, RetainedHeapMeter.Measurement> footprints) {
         final ObjectMapper mapper = JsonMapper.builder().build();
 
-        final List<Implementation.MetaData> metadata =
-                impls.stream().map(Implementation::metadata).collect(Collectors.toList());
+        final ArrayNode details = mapper.createArrayNode();
+        for (final Implementation impl : impls) {
+            final ObjectNode node = mapper.valueToTree(impl.metadata());
+            final ThreadSafetyVerifier.Outcome outcome = threadSafety.get(impl);
+            if (outcome != null) {
+                node.put("threadSafetyVerified", outcome.toString());
+            }
+            final RetainedHeapMeter.Measurement footprint = footprints.get(impl);
+            if (footprint != null) {
+                footprint
+                        .testSchemas()
+                        .ifPresent(fp -> node.put("retainedHeap", fp.bytesPerValidator()));
+                footprint
+                        .testSuite()
+                        .ifPresent(
+                                fp -> node.put("testSuiteRetainedHeap", fp.bytesPerValidator()));
+            }
+            details.add(node);
+        }
 
         try {
-            return mapper.writeValueAsString(metadata);
+            return mapper.writeValueAsString(details);
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -22,10 +22,23 @@ import org.creekservice.api.test.util.TestPaths;
 public final class TestSchemas {
     private static final Path RESOURCE_ROOT =
             TestPaths.moduleRoot("json-schema-validation-comparison").resolve("src/main/resources");
-    public static final String DRAFT_2020_SCHEMA =
-            TestPaths.readString(RESOURCE_ROOT.resolve("schema-draft-2020-12.json"));
-    public static final String DRAFT_7_SCHEMA =
-            TestPaths.readString(RESOURCE_ROOT.resolve("schema-draft-7.json"));
+    public static final String DRAFT_2020_SCHEMA = read("schema-draft-2020-12.json");
+    public static final String DRAFT_7_SCHEMA = read("schema-draft-7.json");
+    public static final String REGEX_DRAFT_2020_SCHEMA = read("regex/regex-draft-2020-12.json");
+    public static final String REGEX_DRAFT_7_SCHEMA = read("regex/regex-draft-7.json");
+    public static final String PAYLOAD_DRAFT_2020_SCHEMA =
+            read("payload/payload-draft-2020-12.json");
+    public static final String PAYLOAD_DRAFT_7_SCHEMA = read("payload/payload-draft-7.json");
 
     private TestSchemas() {}
+
+    /**
+     * Read a schema from the main resources directory.
+     *
+     * @param path the path to the schema, relative to the resources directory.
+     * @return the schema.
+     */
+    public static String read(final String path) {
+        return TestPaths.readString(RESOURCE_ROOT.resolve(path));
+    }
 }
@@ -22,8 +22,11 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
@@ -31,6 +34,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.creekservice.api.test.util.TestPaths;
+import org.creekservice.kafka.test.perf.model.LargeDocument;
 import org.creekservice.kafka.test.perf.model.ModelState;
 import org.creekservice.kafka.test.perf.model.PolyTypeA;
 import org.creekservice.kafka.test.perf.model.PolyTypeB;
@@ -131,10 +135,197 @@ public class ImplementationTest {
 
     @ParameterizedTest(name = "{0}")
     @MethodSource("implementations")
-    void shouldHandleRemoteSchemas(final String shortName, final Implementation impl) {
+    void shouldThrowValidatingInvalidJsonBytes(final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] badJson = validator.serialize(BAD_DECIMAL, false);
+
+        // Then:
+        assertThrows(RuntimeException.class, () -> validator.validate(badJson));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldNotThrowValidatingValidJsonBytes(final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] goodJson = validator.serialize(ModelState.TEST_MODEL, false);
+
+        // When:
+        validator.validate(goodJson);
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldNotThrowValidatingColdStartDocument(
+            final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] goodJson =
+                TestSchemas.read("cold-start/test-model.json").getBytes(StandardCharsets.UTF_8);
+
+        // When:
+        validator.validate(goodJson);
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldThrowValidatingInvalidPreParsedJson(
+            final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson")
+                        || shortName.equals("Confluent")
+                        || shortName.equals("Justify")
+                        || shortName.equals("Medeia"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final String badJson =
+                new String(validator.serialize(BAD_DECIMAL, false), StandardCharsets.UTF_8);
+        final Object parsed = validator.parse(badJson);
+
+        // Then:
+        assertThrows(RuntimeException.class, () -> validator.validateParsed(parsed));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldNotThrowValidatingValidPreParsedJson(
+            final String shortName, final Implementation impl) {
         assumeFalse(
                 shortName.equals("Jackson")
                         || shortName.equals("Confluent")
+                        || shortName.equals("Justify")
+                        || shortName.equals("Medeia"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final String goodJson =
+                new String(
+                        validator.serialize(ModelState.TEST_MODEL, false), StandardCharsets.UTF_8);
+        final Object parsed = validator.parse(goodJson);
+
+        // When:
+        validator.validateParsed(parsed);
+        validator.validateParsed(parsed);
+
+        // Then: did not throw, even when the same parsed data is validated more than once.
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldThrowValidatingInvalidJsonStream(final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] badJson = validator.serialize(BAD_DECIMAL, false);
+
+        // Then:
+        assertThrows(
+                RuntimeException.class,
+                () -> validator.validate(new ByteArrayInputStream(badJson)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldNotThrowValidatingValidLargeDocument(
+            final String shortName, final Implementation impl) throws Exception {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final LargeDocument document = new LargeDocument(1024 * 1024);
+
+        // When:
+        try (InputStream json = document.open()) {
+            validator.validate(json);
+        }
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldNotThrowValidatingValidBatch(final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] goodJson = validator.serialize(ModelState.TEST_MODEL, false);
+
+        // When:
+        validator.validateBatch(List.of(goodJson, goodJson, goodJson));
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldThrowValidatingBatchContainingInvalidJson(
+            final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson") || shortName.equals("Confluent"),
+                "Exclude impls that don't support this");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] goodJson = validator.serialize(ModelState.TEST_MODEL, false);
+        final byte[] badJson = validator.serialize(BAD_DECIMAL, false);
+
+        // Then:
+        assertThrows(
+                RuntimeException.class,
+                () -> validator.validateBatch(List.of(goodJson, badJson, goodJson)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldHandleRemoteSchemas(final String shortName, final Implementation impl) {
+        assumeFalse(
+                shortName.equals("Jackson")
                         || shortName.equals("Skema")
                         || shortName.equals("Vertx"),
                 "Exclude impls that don't support this");
@@ -208,6 +399,59 @@ public class ImplementationTest {
         assertThrows(RuntimeException.class, () -> validator.deserialize(serialized));
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldRoundTripViaDirectBuffer(final String shortName, final Implementation impl) {
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final ByteBuffer buffer = direct(validator.serialize(ModelState.TEST_MODEL, true));
+
+        // When:
+        final TestModel result = validator.deserialize(buffer);
+
+        // Then:
+        assertThat(result, is(ModelState.TEST_MODEL));
+        assertThat(buffer.position(), is(0));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldRoundTripViaHeapBufferSlice(final String shortName, final Implementation impl) {
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final byte[] bytes = validator.serialize(ModelState.TEST_MODEL, true);
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 20);
+        buffer.position(10);
+        buffer.put(bytes);
+        buffer.flip().position(10);
+
+        // When:
+        final TestModel result = validator.deserialize(buffer.slice());
+
+        // Then:
+        assertThat(result, is(ModelState.TEST_MODEL));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("implementations")
+    void shouldValidateOnDeserializeFromBuffer(final String shortName, final Implementation impl) {
+        assumeFalse(shortName.equals("Jackson"), "Exclude the raw Jackson serde");
+
+        // Given:
+        final TestData testData = testData(impl);
+        final Implementation.JsonValidator validator =
+                impl.prepare(testData.schema, testData.spec, additionalSchemas, false);
+        final ByteBuffer serialized = direct(validator.serialize(BAD_DECIMAL, false));
+
+        // Then:
+        assertThrows(RuntimeException.class, () -> validator.deserialize(serialized));
+        assertThrows(RuntimeException.class, () -> validator.validate(serialized));
+    }
+
     private static Stream<Object[]> implementations() {
         return Implementations.all().stream()
                 .map(impl -> new Object[] {impl.metadata().shortName(), impl});
@@ -233,6 +477,10 @@ public class ImplementationTest {
                 "This test case needs extending to cover the the implementation");
     }
 
+    private static ByteBuffer direct(final byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+
     private static final class TestData {
         final SchemaSpec spec;
         final String schema;
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.implementations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ValidatorPoolTest {
+
+    private static final byte[] JSON = {'{', '}'};
+
+    private final Supplier<JsonValidator> factory = () -> mock(JsonValidator.class);
+
+    @ParameterizedTest
+    @EnumSource(ValidatorPool.Strategy.class)
+    void shouldDelegate(final ValidatorPool.Strategy strategy) {
+        // Given:
+        final JsonValidator delegate = mock(JsonValidator.class);
+        final TestModel model = mock(TestModel.class);
+        when(delegate.deserialize(JSON)).thenReturn(model);
+        final ValidatorPool pool = new ValidatorPool(strategy, () -> delegate);
+
+        // When:
+        pool.validate(JSON);
+        final TestModel result = pool.deserialize(JSON);
+
+        // Then:
+        verify(delegate).validate(JSON);
+        assertThat(result, is(model));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidatorPool.Strategy.class)
+    void shouldReuseValidatorOnSameThread(final ValidatorPool.Strategy strategy) {
+        // Given:
+        final ValidatorPool pool = new ValidatorPool(strategy, factory);
+
+        // When:
+        for (int i = 0; i < 10; i++) {
+            pool.validate(JSON);
+        }
+
+        // Then:
+        assertThat(pool.created(), is(1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidatorPool.Strategy.class)
+    void shouldReturnValidatorToPoolOnException(final ValidatorPool.Strategy strategy) {
+        // Given:
+        final JsonValidator delegate = mock(JsonValidator.class);
+        doThrow(new IllegalStateException("boom")).when(delegate).validate(JSON);
+        final ValidatorPool pool = new ValidatorPool(strategy, () -> delegate);
+
+        // When:
+        assertThrows(IllegalStateException.class, () -> pool.validate(JSON));
+        assertThrows(IllegalStateException.class, () -> pool.validate(JSON));
+
+        // Then:
+        assertThat(pool.created(), is(1));
+    }
+
+    @Test
+    void shouldCreateSharedValidatorUpFront() {
+        // When:
+        final ValidatorPool pool = new ValidatorPool(ValidatorPool.Strategy.SHARED, factory);
+
+        // Then:
+        assertThat(pool.created(), is(1));
+    }
+
+    @Test
+    void shouldCreateValidatorPerThreadWithThreadLocal() throws Exception {
+        // Given:
+        final ValidatorPool pool = new ValidatorPool(ValidatorPool.Strategy.THREAD_LOCAL, factory);
+
+        // When:
+        runOnThreads(4, () -> pool.validate(JSON));
+
+        // Then:
+        assertThat(pool.created(), is(4));
+    }
+
+    @Test
+    void shouldNotShareStripedValidatorsBetweenConcurrentCalls() throws Exception {
+        // Given:
+        final List<JsonValidator> inUse = new ArrayList<>();
+        final ValidatorPool pool =
+                new ValidatorPool(
+                        ValidatorPool.Strategy.STRIPED,
+                        () ->
+                                new InUseValidator(
+                                        validator -> {
+                                            synchronized (inUse) {
+                                                if (inUse.contains(validator)) {
+                                                    throw new AssertionError("shared");
+                                                }
+                                                inUse.add(validator);
+                                            }
+                                        },
+                                        validator -> {
+                                            synchronized (inUse) {
+                                                inUse.remove(validator);
+                                            }
+                                        }));
+
+        // When:
+        runOnThreads(
+                8,
+                () -> {
+                    for (int i = 0; i < 1000; i++) {
+                        pool.validate(JSON);
+                    }
+                });
+
+        // Then: did not throw.
+    }
+
+    private static void runOnThreads(final int threads, final Runnable task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    task.run();
+                                    // Hold the thread, so each task runs on its own thread:
+                                    sleep();
+                                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class InUseValidator implements JsonValidator {
+
+        private final Consumer<JsonValidator> onStart;
+        private final Consumer<JsonValidator> onEnd;
+
+        InUseValidator(final Consumer<JsonValidator> onStart, final Consumer<JsonValidator> onEnd) {
+            this.onStart = onStart;
+            this.onEnd = onEnd;
+        }
+
+        @Override
+        public void validate(final String json) {
+            onStart.accept(this);
+            onEnd.accept(this);
+        }
+
+        @Override
+        public void validate(final byte[] json) {
+            onStart.accept(this);
+            Thread.yield();
+            onEnd.accept(this);
+        }
+
+        @Override
+        public byte[] serialize(final TestModel model, final boolean validate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TestModel deserialize(final byte[] data) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
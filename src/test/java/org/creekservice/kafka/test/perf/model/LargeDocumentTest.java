@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.InputStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LargeDocumentTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    @ParameterizedTest
+    @ValueSource(longs = {200, 201, 1000, 12345, 1024 * 1024})
+    void shouldGenerateDocumentOfExactSize(final long size) throws Exception {
+        // Given:
+        final LargeDocument document = new LargeDocument(size);
+
+        // When:
+        final byte[] json;
+        try (InputStream stream = document.open()) {
+            json = stream.readAllBytes();
+        }
+
+        // Then:
+        assertThat((long) json.length, is(size));
+        assertThat(document.size(), is(size));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {200, 1000, 1024 * 1024})
+    void shouldGenerateValidTestModel(final long size) throws Exception {
+        // Given:
+        final LargeDocument document = new LargeDocument(size);
+
+        // When:
+        final TestModel model;
+        try (InputStream stream = document.open()) {
+            model = MAPPER.readValue(stream, TestModel.class);
+        }
+
+        // Then:
+        assertThat(model.getName(), is("large document"));
+        assertThat(model.getPolymorphicTypes(), hasSize(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 10})
+    void shouldThrowIfTooSmall(final long size) {
+        assertThrows(IllegalArgumentException.class, () -> new LargeDocument(size));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class PayloadShapeTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    @ParameterizedTest
+    @EnumSource(PayloadShape.class)
+    void shouldBuildModelOfApproximateSize(final PayloadShape shape) {
+        for (final int target : new int[] {200, 2_000, 20_000, 2_000_000}) {
+            // When:
+            final TestModel model = shape.model(target);
+
+            // Then:
+            final double tolerance = Math.max(64, target / 100.0);
+            assertThat(
+                    shape + " " + target,
+                    (double) PayloadShape.serializedSize(model),
+                    is(closeTo(target, tolerance)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PayloadShape.class)
+    void shouldBuildMinimalModelIfTargetTooSmall(final PayloadShape shape) {
+        // When:
+        final TestModel model = shape.model(1);
+
+        // Then:
+        assertThat(model, is(shape.build(1)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PayloadShape.class)
+    void shouldRoundTrip(final PayloadShape shape) throws Exception {
+        // Given:
+        final TestModel model = shape.model(2_000);
+
+        // When:
+        final TestModel result = MAPPER.readValue(MAPPER.writeValueAsBytes(model), TestModel.class);
+
+        // Then:
+        assertThat(result, is(model));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PayloadShape.class, names = {"LIST", "STRING"})
+    void shouldKeepPolymorphicTypesMinimal(final PayloadShape shape) {
+        assertThat(shape.model(20_000).getPolymorphicTypes(), hasSize(1));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.networknt.schema.regex.JDKRegularExpressionFactory;
+import java.nio.file.Path;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.util.TestSchemas;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RegexDocumentTest {
+
+    @Test
+    void shouldBeDeterministic() {
+        assertThat(RegexDocument.json(10), is(RegexDocument.json(10)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SchemaSpec.class, names = {"DRAFT_07", "DRAFT_2020_12"})
+    void shouldBeValidAgainstSchema(final SchemaSpec spec) {
+        // Given:
+        final JsonValidator validator = validator(new NetworkNtImplementation(), spec);
+
+        // When:
+        validator.validate(RegexDocument.json(50));
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SchemaSpec.class, names = {"DRAFT_07", "DRAFT_2020_12"})
+    void shouldBeValidAgainstSchemaUsingJdkRegex(final SchemaSpec spec) {
+        // Given:
+        final JsonValidator validator =
+                validator(
+                        new NetworkNtImplementation(JDKRegularExpressionFactory.getInstance()),
+                        spec);
+
+        // When:
+        validator.validate(RegexDocument.json(50));
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SchemaSpec.class, names = {"DRAFT_07", "DRAFT_2020_12"})
+    void shouldRejectNonMatchingPattern(final SchemaSpec spec) {
+        // Given:
+        final JsonValidator validator = validator(new NetworkNtImplementation(), spec);
+        final String json = RegexDocument.json(1).replace("\"GB\"", "\"XX\"");
+
+        // Then:
+        assertThrows(RuntimeException.class, () -> validator.validate(json));
+    }
+
+    private static JsonValidator validator(final Implementation impl, final SchemaSpec spec) {
+        final String schema =
+                spec == SchemaSpec.DRAFT_07
+                        ? TestSchemas.REGEX_DRAFT_7_SCHEMA
+                        : TestSchemas.REGEX_DRAFT_2020_SCHEMA;
+
+        return impl.prepare(schema, spec, new AdditionalSchemas(Map.of(), Path.of("")), false);
+    }
+}
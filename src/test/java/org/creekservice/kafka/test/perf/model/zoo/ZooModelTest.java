@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.model.zoo;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.creekservice.kafka.test.perf.testsuite.AdditionalSchemas;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ZooModelTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    @ParameterizedTest
+    @EnumSource(ZooModel.class)
+    void shouldRoundTrip(final ZooModel model) throws Exception {
+        // When:
+        final Object result =
+                MAPPER.readValue(MAPPER.writeValueAsBytes(model.instance()), model.type());
+
+        // Then:
+        assertThat(result, is(model.instance()));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("modelsAndSpecs")
+    void shouldBeValidAgainstSchema(final ZooModel model, final SchemaSpec spec) throws Exception {
+        // Given:
+        final JsonValidator validator = validator(model, spec);
+
+        // When:
+        validator.validate(MAPPER.writeValueAsString(model.instance()));
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("modelsAndSpecs")
+    void shouldRejectInvalid(final ZooModel model, final SchemaSpec spec) {
+        // Given:
+        final JsonValidator validator = validator(model, spec);
+
+        // Then:
+        assertThrows(RuntimeException.class, () -> validator.validate("{}"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = SchemaSpec.class,
+            names = {"DRAFT_07", "DRAFT_2020_12"},
+            mode = EnumSource.Mode.EXCLUDE)
+    void shouldThrowOnUnsupportedSpec(final SchemaSpec spec) {
+        assertThrows(UnsupportedOperationException.class, () -> ZooModel.WIDE.schema(spec));
+    }
+
+    private static JsonValidator validator(final ZooModel model, final SchemaSpec spec) {
+        return new NetworkNtImplementation()
+                .prepare(
+                        model.schema(spec),
+                        spec,
+                        new AdditionalSchemas(Map.of(), Path.of("")),
+                        false);
+    }
+
+    private static Stream<Object[]> modelsAndSpecs() {
+        return Stream.of(ZooModel.values())
+                .flatMap(
+                        model ->
+                                Stream.of(SchemaSpec.DRAFT_07, SchemaSpec.DRAFT_2020_12)
+                                        .map(spec -> new Object[] {model, spec}));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.performance.util.BenchmarkDiff.Change;
+import org.creekservice.kafka.test.perf.performance.util.BenchmarkDiff.Verdict;
+import org.creekservice.kafka.test.perf.performance.util.model.Metric;
+import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BenchmarkDiffTest {
+
+    private static final Path BASELINE = Path.of("baseline.json");
+    private static final Path CURRENT = Path.of("current.json");
+    private static final String PACKAGE = "org.creekservice.kafka.test.perf.performance.";
+
+    @Mock private PerformanceJsonReader reader;
+    @TempDir private Path tempDir;
+
+    private BenchmarkDiff diff;
+
+    @BeforeEach
+    void setUp() {
+        diff = new BenchmarkDiff(reader);
+    }
+
+    @Test
+    void shouldReportSlowerIfIntervalsDoNotOverlap() {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "avgt", "10.0", "0.5"));
+        givenCurrent(result("measureDraft_07_Medeia", "avgt", "12.0", "0.5"));
+
+        // When:
+        final List<Change> changes = diff.diff(BASELINE, CURRENT);
+
+        // Then:
+        assertThat(changes, hasSize(1));
+        assertThat(changes.get(0).verdict(), is(Verdict.SLOWER));
+        assertThat(changes.get(0).relativeChange().orElseThrow(), is(closeTo(0.2, 0.0001)));
+    }
+
+    @Test
+    void shouldReportFasterIfIntervalsDoNotOverlap() {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "avgt", "12.0", "0.5"));
+        givenCurrent(result("measureDraft_07_Medeia", "avgt", "10.0", "0.5"));
+
+        // Then:
+        assertThat(diff.diff(BASELINE, CURRENT).get(0).verdict(), is(Verdict.FASTER));
+    }
+
+    @Test
+    void shouldTreatHigherThroughputAsFaster() {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "thrpt", "10.0", "0.5"));
+        givenCurrent(result("measureDraft_07_Medeia", "thrpt", "12.0", "0.5"));
+
+        // Then:
+        assertThat(diff.diff(BASELINE, CURRENT).get(0).verdict(), is(Verdict.FASTER));
+    }
+
+    @Test
+    void shouldReportNoSignificantChangeIfIntervalsOverlap() {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "avgt", "10.0", "1.5"));
+        givenCurrent(result("measureDraft_07_Medeia", "avgt", "12.0", "1.0"));
+
+        // Then:
+        assertThat(
+                diff.diff(BASELINE, CURRENT).get(0).verdict(), is(Verdict.NO_SIGNIFICANT_CHANGE));
+    }
+
+    @Test
+    void shouldReportAddedAndRemovedBenchmarks() {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "avgt", "10.0", "0.5"));
+        givenCurrent(result("measureDraft_07_Everit", "avgt", "10.0", "0.5"));
+
+        // When:
+        final List<Change> changes = diff.diff(BASELINE, CURRENT);
+
+        // Then:
+        assertThat(changes, hasSize(2));
+        assertThat(changes.get(0).testCase(), is("measureDraft_07_Medeia"));
+        assertThat(changes.get(0).verdict(), is(Verdict.REMOVED));
+        assertThat(changes.get(1).testCase(), is("measureDraft_07_Everit"));
+        assertThat(changes.get(1).verdict(), is(Verdict.ADDED));
+        assertThat(changes.get(1).relativeChange().isPresent(), is(false));
+    }
+
+    @Test
+    void shouldMatchOnParams() {
+        // Given:
+        givenBaseline(
+                result("measureDraft_07_Medeia", Map.of("size", "1"), "10.0"),
+                result("measureDraft_07_Medeia", Map.of("size", "2"), "20.0"));
+        givenCurrent(
+                result("measureDraft_07_Medeia", Map.of("size", "2"), "20.0"),
+                result("measureDraft_07_Medeia", Map.of("size", "1"), "10.0"));
+
+        // When:
+        final List<Change> changes = diff.diff(BASELINE, CURRENT);
+
+        // Then:
+        assertThat(changes, hasSize(2));
+        assertThat(changes.get(0).relativeChange().orElseThrow(), is(closeTo(0.0, 0.0001)));
+        assertThat(changes.get(1).relativeChange().orElseThrow(), is(closeTo(0.0, 0.0001)));
+    }
+
+    @Test
+    void shouldFormatMarkdown() {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "avgt", "10.0", "0.5"));
+        givenCurrent(result("measureDraft_07_Medeia", "avgt", "12.0", "0.5"));
+
+        // When:
+        final String markdown = BenchmarkDiff.toMarkdown(diff.diff(BASELINE, CURRENT));
+
+        // Then:
+        assertThat(
+                markdown,
+                is(
+                        "### JsonValidateBenchmark"
+                                + lineSeparator()
+                                + lineSeparator()
+                                + "| Benchmark | Params | Mode | Baseline | Current | Unit | Change"
+                                + " | Verdict |"
+                                + lineSeparator()
+                                + "|-----------|--------|------|----------|---------|------"
+                                + "|--------|---------|"
+                                + lineSeparator()
+                                + "| measureDraft_07_Medeia |  | avgt | 10.000 ± 0.50000"
+                                + " | 12.000 ± 0.50000 | ms/op | +20.0% | SLOWER |"
+                                + lineSeparator()
+                                + lineSeparator()));
+    }
+
+    @Test
+    void shouldWriteMarkdownAndJson() throws Exception {
+        // Given:
+        givenBaseline(result("measureDraft_07_Medeia", "avgt", "10.0", "0.5"));
+        givenCurrent(result("measureDraft_07_Medeia", "avgt", "12.0", "0.5"));
+
+        // When:
+        diff.diff(BASELINE, CURRENT, tempDir);
+
+        // Then:
+        assertThat(
+                Files.readString(tempDir.resolve("benchmark-diff.md"), UTF_8),
+                containsString("SLOWER"));
+
+        final JsonNode json =
+                JsonMapper.builder()
+                        .build()
+                        .readTree(Files.readString(tempDir.resolve("benchmark-diff.json"), UTF_8));
+        assertThat(json.size(), is(1));
+        assertThat(json.get(0).get("testClass").asText(), is("JsonValidateBenchmark"));
+        assertThat(json.get(0).get("baselineScore").asDouble(), is(closeTo(10.0, 0.0001)));
+        assertThat(json.get(0).get("currentScore").asDouble(), is(closeTo(12.0, 0.0001)));
+        assertThat(json.get(0).get("relativeChange").asDouble(), is(closeTo(0.2, 0.0001)));
+        assertThat(json.get(0).get("verdict").asText(), is("SLOWER"));
+    }
+
+    private void givenBaseline(final PerformanceResult... results) {
+        when(reader.read(BASELINE)).thenReturn(results);
+    }
+
+    private void givenCurrent(final PerformanceResult... results) {
+        when(reader.read(CURRENT)).thenReturn(results);
+    }
+
+    private static PerformanceResult result(
+            final String testCase, final String mode, final String score, final String error) {
+        return new PerformanceResult(
+                PACKAGE + "JsonValidateBenchmark." + testCase,
+                mode,
+                new Metric(new BigDecimal(score), new BigDecimal(error), "ms/op"));
+    }
+
+    private static PerformanceResult result(
+            final String testCase, final Map<String, String> params, final String score) {
+        return new PerformanceResult(
+                PACKAGE + "JsonValidateBenchmark." + testCase,
+                "avgt",
+                params,
+                new Metric(new BigDecimal(score), new BigDecimal("0.5"), "ms/op"),
+                Map.of());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.creekservice.kafka.test.perf.performance.util.model.Metric;
+import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColdStartAnalysisTest {
+
+    private static final String BENCHMARK =
+            "org.creekservice.kafka.test.perf.performance.JsonColdStartBenchmark"
+                    + ".measureDraft_07_Medeia";
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldAddColdStartMetrics() throws IOException {
+        // Given:
+        final Path file = write(result("ss", fork(120), fork(80)));
+
+        // When:
+        ColdStartAnalysis.annotate(file);
+
+        // Then:
+        final Map<String, Metric> metrics = read(file).secondaryMetrics();
+        assertThat(metrics.get("coldStart").score().doubleValue(), is(100.0));
+        assertThat(metrics.get("coldStart").scoreUnit(), is("ms/op"));
+        assertThat(metrics.get("steadyState").score().doubleValue(), is(1.0));
+        assertThat(metrics.get("warmUpOps").score().doubleValue(), is(21.0));
+        assertThat(metrics.get("warmUpTime").score().doubleValue(), is(300.0));
+        assertThat(metrics.get("warmUpTime").scoreUnit(), is("ms"));
+    }
+
+    @Test
+    void shouldIgnoreOtherModes() throws IOException {
+        // Given:
+        final String content = result("avgt", fork(120), fork(80));
+        final Path file = write(content);
+
+        // When:
+        ColdStartAnalysis.annotate(file);
+
+        // Then:
+        assertThat(Files.readString(file, UTF_8), is(content));
+    }
+
+    @Test
+    void shouldIgnoreResultsWithTooFewIterations() throws IOException {
+        // Given:
+        final String content = result("ss", "[1.0]", "[2.0]");
+        final Path file = write(content);
+
+        // When:
+        ColdStartAnalysis.annotate(file);
+
+        // Then:
+        assertThat(Files.readString(file, UTF_8), is(content));
+    }
+
+    /**
+     * @return raw data for a fork with the supplied cold start, then 29 iterations of 10, then 70
+     *     of 1.
+     */
+    private static String fork(final double coldStart) {
+        return IntStream.range(0, 100)
+                .mapToObj(i -> i == 0 ? String.valueOf(coldStart) : i < 30 ? "10.0" : "1.0")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static String result(final String mode, final String... forks) {
+        return "[{"
+                + "\"benchmark\":\""
+                + BENCHMARK
+                + "\",\"mode\":\""
+                + mode
+                + "\",\"primaryMetric\":{\"score\":5.0,\"scoreError\":\"NaN\""
+                + ",\"scoreUnit\":\"ms/op\",\"rawData\":["
+                + String.join(",", forks)
+                + "]}}]";
+    }
+
+    private Path write(final String content) throws IOException {
+        return Files.writeString(tempDir.resolve("results.json"), content, UTF_8);
+    }
+
+    private static PerformanceResult read(final Path file) throws IOException {
+        return PerformanceJsonReader.parseJson(Files.readString(file, UTF_8))[0];
+    }
+}
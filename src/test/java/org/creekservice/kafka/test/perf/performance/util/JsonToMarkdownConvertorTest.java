@@ -17,12 +17,17 @@
 package org.creekservice.kafka.test.perf.performance.util;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.creekservice.kafka.test.perf.performance.util.model.Metric;
 import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
@@ -103,6 +108,55 @@ class JsonToMarkdownConvertorTest {
                                         + System.lineSeparator())));
     }
 
+    @Test
+    void shouldIncludeParamsAndSecondaryMetrics() {
+        // Given:
+        when(reader.read(SOME_PATH))
+                .thenReturn(
+                        new PerformanceResult[] {
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonLargeDocumentBenchmark.measureDraft_07_Medeia",
+                                    "thrpt",
+                                    Map.of("documentSizeMb", "10"),
+                                    new Metric(
+                                            new BigDecimal("12.3456789"),
+                                            new BigDecimal("0.123456789"),
+                                            "ops/s"),
+                                    Map.of(
+                                            "\u00b7heap.peak",
+                                            new Metric(new BigDecimal("256.5"), "NaN", "MB"))),
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonLargeDocumentBenchmark.measureDraft_07_Snow",
+                                    "thrpt",
+                                    new Metric(
+                                            new BigDecimal("1.5"),
+                                            new BigDecimal("0.25"),
+                                            "ops/s"))
+                        });
+
+        // When:
+        final Map<String, String> results = convertor.convert(SOME_PATH);
+
+        // Then:
+        assertThat(
+                results,
+                is(
+                        Map.of(
+                                "JsonLargeDocumentBenchmark",
+                                "| Benchmark | documentSizeMb | Mode | Score | Score Error (99.9%)"
+                                        + " | Unit | heap.peak |"
+                                        + System.lineSeparator()
+                                        + "|-----------|----------------|------|-------|"
+                                        + "---------------------|------|-----------|"
+                                        + System.lineSeparator()
+                                        + "| measureDraft_07_Medeia | 10 | thrpt | 12.346 | 0.12346"
+                                        + " | ops/s | 256.50 MB |"
+                                        + System.lineSeparator()
+                                        + "| measureDraft_07_Snow |  | thrpt | 1.5000 | 0.25000 |"
+                                        + " ops/s |  |"
+                                        + System.lineSeparator())));
+    }
+
     @Test
     void shouldHandleNaN() {
         // Given:
@@ -129,4 +183,171 @@ class JsonToMarkdownConvertorTest {
                                         + " |"
                                         + System.lineSeparator())));
     }
+
+    @Test
+    void shouldOnlyShowAllocationsPerOperationFromGcProfiler() {
+        // Given:
+        final Map<String, Metric> secondaryMetrics = new LinkedHashMap<>();
+        secondaryMetrics.put(
+                "\u00b7gc.alloc.rate", new Metric(new BigDecimal("1024"), "NaN", "MB/sec"));
+        secondaryMetrics.put(
+                "\u00b7gc.alloc.rate.norm", new Metric(new BigDecimal("2048"), "NaN", "B/op"));
+
+        when(reader.read(SOME_PATH))
+                .thenReturn(
+                        new PerformanceResult[] {
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonValidateBenchmark.measureDraft_7_Medeia",
+                                    "avgt",
+                                    Map.of(),
+                                    new Metric(new BigDecimal("0.5"), "NaN", "ms/op"),
+                                    secondaryMetrics)
+                        });
+
+        // When:
+        final Map<String, String> results = convertor.convert(SOME_PATH);
+
+        // Then:
+        assertThat(
+                results.get("JsonValidateBenchmark"),
+                startsWith(
+                        "| Benchmark | Mode | Score | Score Error (99.9%) | Unit"
+                                + " | gc.alloc.rate.norm |"
+                                + System.lineSeparator()));
+        assertThat(
+                results.get("JsonValidateBenchmark"),
+                containsString(
+                        "| measureDraft_7_Medeia | avgt | 0.50000 |  | ms/op | 2048.0 B/op |"
+                                + System.lineSeparator()));
+    }
+
+    @Test
+    void shouldIncludePercentileTableForSampledResults() {
+        // Given:
+        final Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+        percentiles.put("0.0", new BigDecimal("0.1"));
+        percentiles.put("50.0", new BigDecimal("0.2"));
+        percentiles.put("90.0", new BigDecimal("0.3"));
+        percentiles.put("99.0", new BigDecimal("0.4"));
+        percentiles.put("99.9", new BigDecimal("1.5"));
+        percentiles.put("99.99", new BigDecimal("2.5"));
+        percentiles.put("100.0", new BigDecimal("10"));
+
+        when(reader.read(SOME_PATH))
+                .thenReturn(
+                        new PerformanceResult[] {
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonSerdeSampleTimeBenchmark.measureDraft_07_Medeia",
+                                    "sample",
+                                    Map.of(),
+                                    new Metric(
+                                            new BigDecimal("0.25"), "NaN", "us/op", percentiles),
+                                    Map.of())
+                        });
+
+        // When:
+        final Map<String, String> results = convertor.convert(SOME_PATH);
+
+        // Then:
+        assertThat(
+                results.get("JsonSerdeSampleTimeBenchmark"),
+                endsWith(
+                        System.lineSeparator()
+                                + "| Benchmark | p50 | p90 | p99 | p99.9 | p99.99 | max | Unit |"
+                                + System.lineSeparator()
+                                + "|-----------|-----|-----|-----|-------|--------|-----|------|"
+                                + System.lineSeparator()
+                                + "| measureDraft_07_Medeia | 0.20000 | 0.30000 | 0.40000 | 1.5000"
+                                + " | 2.5000 | 10.000 | us/op |"
+                                + System.lineSeparator()));
+    }
+
+    @Test
+    void shouldNotIncludePercentileTableForOtherModes() {
+        // Given:
+        when(reader.read(SOME_PATH))
+                .thenReturn(
+                        new PerformanceResult[] {
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonValidateBenchmark.measureDraft_7_Medeia",
+                                    "avgt",
+                                    Map.of(),
+                                    new Metric(
+                                            new BigDecimal("0.5"),
+                                            "NaN",
+                                            "ms/op",
+                                            Map.of("99.9", new BigDecimal("0.6"))),
+                                    Map.of())
+                        });
+
+        // When:
+        final Map<String, String> results = convertor.convert(SOME_PATH);
+
+        // Then:
+        assertThat(results.get("JsonValidateBenchmark"), not(containsString("p99.9")));
+    }
+
+    @Test
+    void shouldIncludeValidationOverheadOverJacksonPerDraft() {
+        // Given:
+        when(reader.read(SOME_PATH))
+                .thenReturn(
+                        new PerformanceResult[] {
+                            serdeResult("measureDraft_07_Jackson", "2.0"),
+                            serdeResult("measureDraft_07_Medeia", "3.0"),
+                            serdeResult("measureDraft_2020_12_Jackson", "2.5"),
+                            serdeResult("measureDraft_2020_12_Skema", "5.0")
+                        });
+
+        // When:
+        final Map<String, String> results = convertor.convert(SOME_PATH);
+
+        // Then:
+        assertThat(
+                results.get("JsonSerdeBenchmark"),
+                endsWith(
+                        System.lineSeparator()
+                                + "| Draft | Implementation | Mode | Score | Jackson | Overhead"
+                                + " | Overhead % | Unit |"
+                                + System.lineSeparator()
+                                + "|-------|----------------|------|-------|---------|----------"
+                                + "|------------|------|"
+                                + System.lineSeparator()
+                                + "| Draft_07 | Medeia | avgt | 3.0000 | 2.0000 | 1.0000 | +50.0%"
+                                + " | us/op |"
+                                + System.lineSeparator()
+                                + "| Draft_2020_12 | Skema | avgt | 5.0000 | 2.5000 | 2.5000"
+                                + " | +100.0% | us/op |"
+                                + System.lineSeparator()));
+    }
+
+    @Test
+    void shouldNotIncludeValidationOverheadForThroughput() {
+        // Given:
+        when(reader.read(SOME_PATH))
+                .thenReturn(
+                        new PerformanceResult[] {
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.measureDraft_07_Jackson",
+                                    "thrpt",
+                                    new Metric(new BigDecimal("2.0"), "NaN", "ops/us")),
+                            new PerformanceResult(
+                                    "org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark.measureDraft_07_Medeia",
+                                    "thrpt",
+                                    new Metric(new BigDecimal("1.0"), "NaN", "ops/us"))
+                        });
+
+        // When:
+        final Map<String, String> results = convertor.convert(SOME_PATH);
+
+        // Then:
+        assertThat(results.get("JsonSerdeBenchmark"), not(containsString("Overhead")));
+    }
+
+    private static PerformanceResult serdeResult(final String testCase, final String score) {
+        return new PerformanceResult(
+                "org.creekservice.kafka.test.perf.performance.JsonSerdeBenchmark." + testCase,
+                "avgt",
+                new Metric(new BigDecimal(score), "NaN", "us/op"));
+    }
 }
@@ -20,12 +20,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
 
 import java.math.BigDecimal;
+import java.util.Map;
 import org.creekservice.kafka.test.perf.performance.util.model.Metric;
 import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
 import org.junit.jupiter.api.Test;
 
 class PerformanceJsonReaderTest {
 
+    private static final BigDecimal MAX_SCORE = new BigDecimal("0.34981339737699124");
+
     private static final String JSON_RESULT =
             "[\n"
                     +
@@ -137,6 +140,30 @@ class PerformanceJsonReaderTest {
                 + "    }\n"
                 + "]";
 
+    private static final String JSON_RESULT_WITH_PARAMS_AND_SECONDARY_METRICS =
+            "[\n"
+                + "   {\n"
+                + "        \"benchmark\" :"
+                + " \"org.creekservice.kafka.test.perf.performance.JsonLargeDocumentBenchmark.measureDraft_07_Medeia\",\n"
+                + "        \"mode\" : \"thrpt\",\n"
+                + "        \"params\" : {\n"
+                + "            \"documentSizeMb\" : \"10\"\n"
+                + "        },\n"
+                + "        \"primaryMetric\" : {\n"
+                + "            \"score\" : 12.5,\n"
+                + "            \"scoreError\" : 0.5,\n"
+                + "            \"scoreUnit\" : \"ops/s\"\n"
+                + "        },\n"
+                + "        \"secondaryMetrics\" : {\n"
+                + "            \"\u00b7heap.peak\" : {\n"
+                + "                \"score\" : 256.5,\n"
+                + "                \"scoreError\" : \"NaN\",\n"
+                + "                \"scoreUnit\" : \"MB\"\n"
+                + "            }\n"
+                + "        }\n"
+                + "    }\n"
+                + "]";
+
     @Test
     void shouldParseJson() {
         // When:
@@ -152,7 +179,18 @@ class PerformanceJsonReaderTest {
                                 new Metric(
                                         new BigDecimal("0.34276444437738995"),
                                         new BigDecimal("0.0038394222791281593"),
-                                        "ms/op")),
+                                        "ms/op",
+                                        Map.of(
+                                                "0.0", new BigDecimal("0.3341750081828707"),
+                                                "50.0", new BigDecimal("0.3432545406943275"),
+                                                "90.0", new BigDecimal("0.3482507649509782"),
+                                                "95.0", new BigDecimal("0.34973757670327116"),
+                                                "99.0", MAX_SCORE,
+                                                "99.9", MAX_SCORE,
+                                                "99.99", MAX_SCORE,
+                                                "99.999", MAX_SCORE,
+                                                "99.9999", MAX_SCORE,
+                                                "100.0", MAX_SCORE))),
                         new PerformanceResult(
                                 "org.creekservice.kafka.test.perf.performance.JsonValidateBenchmark.measureDraft_7_Medeia",
                                 "diff",
@@ -176,4 +214,24 @@ class PerformanceJsonReaderTest {
                                 "avgt",
                                 new Metric(new BigDecimal("0.893598359837538"), "NaN", "ms/op"))));
     }
+
+    @Test
+    void shouldParseParamsAndSecondaryMetrics() {
+        // When:
+        final PerformanceResult[] results =
+                PerformanceJsonReader.parseJson(JSON_RESULT_WITH_PARAMS_AND_SECONDARY_METRICS);
+
+        // Then:
+        assertThat(
+                results,
+                arrayContaining(
+                        new PerformanceResult(
+                                "org.creekservice.kafka.test.perf.performance.JsonLargeDocumentBenchmark.measureDraft_07_Medeia",
+                                "thrpt",
+                                Map.of("documentSizeMb", "10"),
+                                new Metric(new BigDecimal("12.5"), new BigDecimal("0.5"), "ops/s"),
+                                Map.of(
+                                        "heap.peak",
+                                        new Metric(new BigDecimal("256.5"), "NaN", "MB")))));
+    }
 }
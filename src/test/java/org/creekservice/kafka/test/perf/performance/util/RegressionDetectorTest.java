@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.creekservice.kafka.test.perf.performance.util.RegressionDetector.Regression;
+import org.creekservice.kafka.test.perf.performance.util.model.HistoryEntry;
+import org.junit.jupiter.api.Test;
+
+class RegressionDetectorTest {
+
+    private final RegressionDetector detector = new RegressionDetector();
+
+    @Test
+    void shouldDetectSignificantSlowdown() {
+        // Given:
+        final HistoryEntry baseline = entry("1.0", "avgt", 10.0, 10.1, 9.9, 10.0);
+        final HistoryEntry current = entry("1.1", "avgt", 12.0, 12.1, 11.9, 12.0);
+
+        // When:
+        final List<Regression> result = detector.detect(List.of(baseline, current));
+
+        // Then:
+        assertThat(result, hasSize(1));
+        assertThat(result.get(0).baseline(), is(baseline));
+        assertThat(result.get(0).current(), is(current));
+        assertThat(result.get(0).slowdown(), is(closeTo(0.2, 0.0001)));
+    }
+
+    @Test
+    void shouldDetectSignificantThroughputDrop() {
+        // Given:
+        final HistoryEntry baseline = entry("1.0", "thrpt", 12.0, 12.1, 11.9, 12.0);
+        final HistoryEntry current = entry("1.1", "thrpt", 10.0, 10.1, 9.9, 10.0);
+
+        // When:
+        final List<Regression> result = detector.detect(List.of(baseline, current));
+
+        // Then:
+        assertThat(result, hasSize(1));
+        assertThat(result.get(0).slowdown(), is(closeTo(0.2, 0.0001)));
+    }
+
+    @Test
+    void shouldIgnoreSpeedUp() {
+        // Given:
+        final HistoryEntry baseline = entry("1.0", "avgt", 12.0, 12.1, 11.9, 12.0);
+        final HistoryEntry current = entry("1.1", "avgt", 10.0, 10.1, 9.9, 10.0);
+
+        // Then:
+        assertThat(detector.detect(List.of(baseline, current)), hasSize(0));
+    }
+
+    @Test
+    void shouldIgnoreSlowdownWithinThreshold() {
+        // Given:
+        final HistoryEntry baseline = entry("1.0", "avgt", 10.0, 10.01, 9.99, 10.0);
+        final HistoryEntry current = entry("1.1", "avgt", 10.5, 10.51, 10.49, 10.5);
+
+        // Then:
+        assertThat(detector.detect(List.of(baseline, current)), hasSize(0));
+    }
+
+    @Test
+    void shouldIgnoreSlowdownThatIsNotSignificant() {
+        // Given:
+        final HistoryEntry baseline = entry("1.0", "avgt", 10.0, 5.0, 15.0, 10.0);
+        final HistoryEntry current = entry("1.1", "avgt", 12.0, 6.0, 18.0, 12.0);
+
+        // Then:
+        assertThat(detector.detect(List.of(baseline, current)), hasSize(0));
+    }
+
+    @Test
+    void shouldOnlyCompareDifferentVersions() {
+        // Given:
+        final HistoryEntry first = entry("1.0", "avgt", 10.0, 10.1, 9.9, 10.0);
+        final HistoryEntry second = entry("1.0", "avgt", 12.0, 12.1, 11.9, 12.0);
+
+        // Then:
+        assertThat(detector.detect(List.of(first, second)), hasSize(0));
+    }
+
+    @Test
+    void shouldCompareWithLatestResultOfPreviousVersion() {
+        // Given:
+        final HistoryEntry old = entry("1.0", "avgt", 12.0, 12.1, 11.9, 12.0);
+        final HistoryEntry baseline = entry("1.0", "avgt", 10.0, 10.1, 9.9, 10.0);
+        final HistoryEntry sameVersion = entry("1.1", "avgt", 12.0, 12.1, 11.9, 12.0);
+        final HistoryEntry current = entry("1.1", "avgt", 12.0, 12.1, 11.9, 12.0);
+
+        // When:
+        final List<Regression> result =
+                detector.detect(List.of(old, baseline, sameVersion, current));
+
+        // Then:
+        assertThat(result, hasSize(1));
+        assertThat(result.get(0).baseline(), is(baseline));
+        assertThat(result.get(0).current(), is(current));
+    }
+
+    @Test
+    void shouldFallBackToScoreErrorIfNoSamples() {
+        // Given:
+        final HistoryEntry baseline = entry("1.0", "avgt", 10.0, "0.5");
+        final HistoryEntry overlapping = entry("1.1", "avgt", 11.5, "1.5");
+        final HistoryEntry distinct = entry("1.1", "avgt", 12.0, "0.5");
+
+        // Then:
+        assertThat(detector.detect(List.of(baseline, overlapping)), hasSize(0));
+        assertThat(detector.detect(List.of(baseline, distinct)), hasSize(1));
+    }
+
+    @Test
+    void shouldThrowOnInvalidConfidence() {
+        assertThrows(IllegalArgumentException.class, () -> new RegressionDetector(0.1, 1.0));
+    }
+
+    private static HistoryEntry entry(
+            final String version, final String mode, final double score, final double... samples) {
+        return new HistoryEntry(
+                "2025-01-02T03:04:05Z",
+                "JsonValidateBenchmark",
+                "measureDraft_07_Medeia",
+                mode,
+                Map.of(),
+                "Medeia",
+                version,
+                BigDecimal.valueOf(score),
+                null,
+                "ms/op",
+                Arrays.stream(samples).mapToObj(BigDecimal::valueOf).collect(Collectors.toList()));
+    }
+
+    private static HistoryEntry entry(
+            final String version, final String mode, final double score, final String error) {
+        return new HistoryEntry(
+                "2025-01-02T03:04:05Z",
+                "JsonValidateBenchmark",
+                "measureDraft_07_Medeia",
+                mode,
+                Map.of(),
+                "Medeia",
+                version,
+                BigDecimal.valueOf(score),
+                new BigDecimal(error),
+                "ms/op",
+                List.of());
+    }
+}
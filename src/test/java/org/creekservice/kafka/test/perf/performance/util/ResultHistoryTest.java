@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.performance.util.model.HistoryEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultHistoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-02T03:04:05Z");
+
+    @TempDir private Path tempDir;
+
+    private Path historyRoot;
+    private ResultHistory history;
+
+    @BeforeEach
+    void setUp() {
+        historyRoot = tempDir.resolve("history");
+        history =
+                new ResultHistory(
+                        historyRoot,
+                        Map.of("Medeia", "1.1.0"),
+                        Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldReturnEmptyIfNoHistory() {
+        assertThat(history.read("JsonValidateBenchmark"), is(empty()));
+        assertThat(history.readAll(), is(empty()));
+    }
+
+    @Test
+    void shouldAppendResultsWithImplementationVersion() throws IOException {
+        // Given:
+        final Path results = write(result("measureDraft_07_Medeia", "0.5"));
+
+        // When:
+        final List<HistoryEntry> appended = history.append(results);
+
+        // Then:
+        final HistoryEntry expected = expected("measureDraft_07_Medeia", "Medeia", "1.1.0", "0.5");
+        assertThat(appended, contains(expected));
+        assertThat(history.read("JsonValidateBenchmark"), contains(expected));
+    }
+
+    @Test
+    void shouldAppendRatherThanOverwrite() throws IOException {
+        // Given:
+        history.append(write(result("measureDraft_07_Medeia", "0.5")));
+
+        // When:
+        history.append(write(result("measureDraft_07_Medeia", "0.6")));
+
+        // Then:
+        assertThat(
+                history.readAll(),
+                contains(
+                        expected("measureDraft_07_Medeia", "Medeia", "1.1.0", "0.5"),
+                        expected("measureDraft_07_Medeia", "Medeia", "1.1.0", "0.6")));
+    }
+
+    @Test
+    void shouldRecordUnknownVersion() throws IOException {
+        // When:
+        history.append(write(result("measureDraft_07_Other", "0.5")));
+
+        // Then:
+        assertThat(
+                history.readAll(),
+                contains(expected("measureDraft_07_Other", "Other", "unknown", "0.5")));
+    }
+
+    private Path write(final String content) throws IOException {
+        return Files.writeString(tempDir.resolve("results.json"), content, UTF_8);
+    }
+
+    private static String result(final String testCase, final String score) {
+        return "[{"
+                + "\"benchmark\":\"org.creekservice.kafka.test.perf.performance"
+                + ".JsonValidateBenchmark."
+                + testCase
+                + "\",\"mode\":\"avgt\""
+                + ",\"params\":{\"size\":\"10\"}"
+                + ",\"primaryMetric\":{\"score\":"
+                + score
+                + ",\"scoreError\":0.05,\"scoreUnit\":\"ms/op\""
+                + ",\"rawData\":[[0.4,0.5],[0.6]]}"
+                + "}]";
+    }
+
+    private static HistoryEntry expected(
+            final String testCase,
+            final String implementation,
+            final String version,
+            final String score) {
+        return new HistoryEntry(
+                NOW.toString(),
+                "JsonValidateBenchmark",
+                testCase,
+                "avgt",
+                Map.of("size", "10"),
+                implementation,
+                version,
+                new BigDecimal(score),
+                new BigDecimal("0.05"),
+                "ms/op",
+                List.of(new BigDecimal("0.4"), new BigDecimal("0.5"), new BigDecimal("0.6")));
+    }
+}
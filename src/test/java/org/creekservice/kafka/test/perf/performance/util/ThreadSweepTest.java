@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.performance.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.kafka.test.perf.performance.util.model.Metric;
+import org.creekservice.kafka.test.perf.performance.util.model.PerformanceResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ThreadSweepTest {
+
+    private static final String BENCHMARK =
+            "org.creekservice.kafka.test.perf.performance.JsonSerdeScalingBenchmark"
+                    + ".measureDraft_07_Medeia";
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldReturnPowersOfTwoUpToMax() {
+        assertThat(ThreadSweep.threadCounts(1), contains(1));
+        assertThat(ThreadSweep.threadCounts(2), contains(1, 2));
+        assertThat(ThreadSweep.threadCounts(6), contains(1, 2, 4, 6));
+        assertThat(ThreadSweep.threadCounts(32), contains(1, 2, 4, 8, 16, 32));
+    }
+
+    @Test
+    void shouldThrowOnInvalidMax() {
+        assertThrows(IllegalArgumentException.class, () -> ThreadSweep.threadCounts(0));
+    }
+
+    @Test
+    void shouldApplyToAnnotatedBenchmarks() {
+        assertThat(ThreadSweep.appliesTo("JsonSerdeScalingBenchmark", new String[] {}), is(true));
+        assertThat(ThreadSweep.appliesTo("JsonSerdeBenchmark", new String[] {}), is(false));
+        assertThat(ThreadSweep.appliesTo("Unknown", new String[] {}), is(false));
+    }
+
+    @Test
+    void shouldNotApplyIfThreadsSupplied() {
+        assertThat(
+                ThreadSweep.appliesTo("JsonSerdeScalingBenchmark", new String[] {"-t", "1"}),
+                is(false));
+    }
+
+    @Test
+    void shouldMergeResultsAddingThreadsParam() throws IOException {
+        // Given:
+        final Path one = write("one.json", result(1, 10.0));
+        final Path two = write("two.json", result(2, 18.0));
+        final Path merged = tempDir.resolve("merged.json");
+
+        // When:
+        ThreadSweep.merge(List.of(one, two), merged);
+
+        // Then:
+        assertThat(
+                PerformanceJsonReader.parseJson(Files.readString(merged, UTF_8)),
+                arrayContaining(expected("1", "10.0"), expected("2", "18.0")));
+    }
+
+    private Path write(final String name, final String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content, UTF_8);
+    }
+
+    private static String result(final int threads, final double score) {
+        return "[{"
+                + "\"benchmark\":\""
+                + BENCHMARK
+                + "\",\"mode\":\"thrpt\",\"threads\":"
+                + threads
+                + ",\"params\":{\"sharing\":\"SHARED\"}"
+                + ",\"primaryMetric\":{\"score\":"
+                + score
+                + ",\"scoreError\":0.5,\"scoreUnit\":\"ops/ms\"}"
+                + "}]";
+    }
+
+    private static PerformanceResult expected(final String threads, final String score) {
+        return new PerformanceResult(
+                BENCHMARK,
+                "thrpt",
+                Map.of("sharing", "SHARED", ThreadSweep.THREADS_PARAM, threads),
+                new Metric(new BigDecimal(score), new BigDecimal("0.5"), "ops/ms"),
+                Map.of());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.serde;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.json.JsonSchema;
+import io.confluent.kafka.schemaregistry.json.JsonSchemaProvider;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.kafka.common.errors.SerializationException;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ValidatingSerdeTest {
+
+    private static final String TOPIC = "t";
+    private static final String SCHEMA = "{\"type\":\"object\"}";
+    private static final byte[] JSON = {'{', '}'};
+
+    private final MockSchemaRegistryClient registry =
+            new MockSchemaRegistryClient(List.of(new JsonSchemaProvider()));
+    private final JsonSchema schema = new JsonSchema(SCHEMA);
+    private final JsonValidator validator = mock(JsonValidator.class);
+    private final Implementation impl = mock(Implementation.class);
+    private final TestModel model = mock(TestModel.class);
+
+    private ValidatingSerializer serializer;
+    private ValidatingDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        when(validator.serialize(model, true)).thenReturn(JSON);
+        when(validator.deserialize(any(ByteBuffer.class))).thenReturn(model);
+        when(impl.prepare(any(), eq(SchemaSpec.DRAFT_07), any(), anyBoolean()))
+                .thenReturn(validator);
+
+        serializer = new ValidatingSerializer(registry, schema, validator);
+        deserializer = new ValidatingDeserializer(registry, impl, SchemaSpec.DRAFT_07);
+    }
+
+    @Test
+    void shouldFrameWithMagicByteAndSchemaId() throws Exception {
+        // When:
+        final byte[] result = serializer.serialize(TOPIC, model);
+
+        // Then:
+        final int id = registry.getId("t-value", schema);
+        final ByteBuffer buffer = ByteBuffer.wrap(result);
+        assertThat(buffer.get(), is((byte) 0));
+        assertThat(buffer.getInt(), is(id));
+        assertThat(buffer.get(), is((byte) '{'));
+        assertThat(buffer.get(), is((byte) '}'));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    void shouldValidateOnSerialize() {
+        // When:
+        serializer.serialize(TOPIC, model);
+
+        // Then:
+        verify(validator).serialize(model, true);
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        // Given:
+        final byte[] data = serializer.serialize(TOPIC, model);
+
+        // When:
+        final TestModel result = deserializer.deserialize(TOPIC, data);
+
+        // Then:
+        assertThat(result, is(model));
+    }
+
+    @Test
+    void shouldPrepareValidatorFromRegisteredSchema() {
+        // When:
+        deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, model));
+
+        // Then:
+        verify(impl)
+                .prepare(eq(schema.canonicalString()), eq(SchemaSpec.DRAFT_07), any(), eq(false));
+    }
+
+    @Test
+    void shouldCacheValidatorPerSchemaId() {
+        // Given:
+        final byte[] data = serializer.serialize(TOPIC, model);
+
+        // When:
+        deserializer.deserialize(TOPIC, data);
+        deserializer.deserialize(TOPIC, data);
+
+        // Then:
+        verify(impl, times(1)).prepare(any(), any(), any(), anyBoolean());
+        verify(validator, times(2)).deserialize(any(ByteBuffer.class));
+    }
+
+    @Test
+    void shouldPassPayloadWithoutHeader() {
+        // Given:
+        when(validator.deserialize(any(ByteBuffer.class)))
+                .thenAnswer(
+                        inv -> {
+                            final ByteBuffer payload = inv.getArgument(0);
+                            assertThat(payload.remaining(), is(JSON.length));
+                            assertThat(payload.get(payload.position()), is((byte) '{'));
+                            return model;
+                        });
+        final byte[] data = serializer.serialize(TOPIC, model);
+
+        // When:
+        final TestModel result = deserializer.deserialize(TOPIC, data);
+
+        // Then:
+        assertThat(result, is(model));
+    }
+
+    @Test
+    void shouldHandleNulls() {
+        assertThat(serializer.serialize(TOPIC, null), is(nullValue()));
+        assertThat(deserializer.deserialize(TOPIC, null), is(nullValue()));
+    }
+
+    @Test
+    void shouldThrowOnUnknownMagicByte() {
+        // Given:
+        final byte[] data = serializer.serialize(TOPIC, model);
+        data[0] = 1;
+
+        // When:
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, data));
+    }
+
+    @Test
+    void shouldThrowOnTruncatedHeader() {
+        assertThrows(
+                SerializationException.class,
+                () -> deserializer.deserialize(TOPIC, new byte[] {0, 0}));
+    }
+
+    @Test
+    void shouldThrowOnUnknownSchemaId() {
+        // Given:
+        final byte[] data = ByteBuffer.allocate(5).put((byte) 0).putInt(1234).array();
+
+        // When:
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, data));
+    }
+}
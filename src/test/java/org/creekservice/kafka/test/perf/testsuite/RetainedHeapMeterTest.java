@@ -0,0 +1,223 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.testsuite;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.creekservice.kafka.test.perf.testsuite.RetainedHeapMeter.Footprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RetainedHeapMeterTest {
+
+    private static final Path SUITE_PATH = Paths.get("draft7/test.json");
+    private static final int VALIDATOR_SIZE = 4 * 1024 * 1024;
+    private static final int TEST_SCHEMA_COPIES = 2;
+
+    @Mock(strictness = LENIENT)
+    private Implementation impl;
+
+    private JsonSchemaTestSuite testSuite;
+    private RetainedHeapMeter meter;
+
+    @BeforeEach
+    void setUp() {
+        final List<TestCase> tests =
+                List.of(new TestCase("a", IntNode.valueOf(1), true, Optional.empty(), SUITE_PATH));
+
+        final TestSuite suite =
+                new TestSuite(
+                        "suite",
+                        JsonNodeFactory.instance.objectNode(),
+                        tests,
+                        Optional.empty(),
+                        SUITE_PATH);
+
+        testSuite =
+                new JsonSchemaTestSuite(
+                        List.of(new SpecTestSuites(SchemaSpec.DRAFT_07, List.of(suite))),
+                        Map.of(),
+                        Paths.get(""));
+
+        meter = new RetainedHeapMeter(testSuite);
+
+        when(impl.supports(SchemaSpec.DRAFT_07)).thenReturn(true);
+        when(impl.prepare(anyString(), any(), any(), anyBoolean()))
+                .thenAnswer(inv -> new SizedValidator(VALIDATOR_SIZE));
+    }
+
+    @Test
+    void shouldPrepareTestSuiteAndTestSchemasSeparately() {
+        // Given:
+        meter = new RetainedHeapMeter(testSuite, TEST_SCHEMA_COPIES, new Heap(1000, 1000));
+
+        // When:
+        final RetainedHeapMeter.Measurement measurement = meter.measure(impl);
+
+        // Then:
+        assertThat(measurement.testSchemas().map(Footprint::validators), is(Optional.of(2)));
+        assertThat(measurement.testSuite().map(Footprint::validators), is(Optional.of(1)));
+    }
+
+    @Test
+    void shouldMeasureRetainedHeap() {
+        // Given:
+        meter = new RetainedHeapMeter(testSuite, TEST_SCHEMA_COPIES, RetainedHeapMeter::heapUsed);
+
+        // When:
+        final RetainedHeapMeter.Measurement measurement = meter.measure(impl);
+
+        // Then:
+        assertThat(
+                measurement.testSuite().map(Footprint::bytesPerValidator).orElse(0L),
+                is(greaterThan(VALIDATOR_SIZE / 2L)));
+    }
+
+    @Test
+    void shouldReportMedianMeasurement() {
+        // Given:
+        meter = new RetainedHeapMeter(testSuite, TEST_SCHEMA_COPIES, new Heap(1000, 980, 1010));
+
+        // When:
+        final RetainedHeapMeter.Measurement measurement = meter.measure(impl);
+
+        // Then:
+        assertThat(measurement.testSchemas().map(Footprint::retainedBytes), is(Optional.of(1000L)));
+    }
+
+    @Test
+    void shouldDiscardNegativeMeasurement() {
+        // Given:
+        meter = new RetainedHeapMeter(testSuite, TEST_SCHEMA_COPIES, new Heap(1000, -5, 1000));
+
+        // When:
+        final RetainedHeapMeter.Measurement measurement = meter.measure(impl);
+
+        // Then:
+        assertThat(measurement.testSchemas(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDiscardNoisyMeasurement() {
+        // Given:
+        meter = new RetainedHeapMeter(testSuite, TEST_SCHEMA_COPIES, new Heap(1000, 2000, 1000));
+
+        // When:
+        final RetainedHeapMeter.Measurement measurement = meter.measure(impl);
+
+        // Then:
+        assertThat(measurement.testSchemas(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldExcludeSchemasThatFailToPrepare() {
+        // Given:
+        meter = new RetainedHeapMeter(testSuite, TEST_SCHEMA_COPIES, new Heap(1000, 1000));
+        when(impl.prepare(anyString(), any(), any(), anyBoolean()))
+                .thenAnswer(
+                        inv -> {
+                            if (inv.getArgument(0).equals("{}")) {
+                                throw new IllegalArgumentException("unsupported");
+                            }
+                            return new SizedValidator(VALIDATOR_SIZE);
+                        });
+
+        // When:
+        final RetainedHeapMeter.Measurement measurement = meter.measure(impl);
+
+        // Then:
+        assertThat(measurement.testSuite(), is(Optional.empty()));
+        assertThat(measurement.testSchemas().map(Footprint::validators), is(Optional.of(2)));
+    }
+
+    /**
+     * Heap whose usage grows by the supplied amounts across each measurement of the test schemas,
+     * followed by a constant 1000 bytes across each measurement of the test suite.
+     */
+    private static final class Heap implements LongSupplier {
+
+        private final List<Long> readings = new ArrayList<>();
+        private int next;
+
+        Heap(final long... testSchemaGrowth) {
+            long used = 0;
+            for (int i = 0; i < 3; i++) {
+                readings.add(used);
+                used += testSchemaGrowth[i % testSchemaGrowth.length];
+                readings.add(used);
+            }
+            for (int i = 0; i < 3; i++) {
+                readings.add(used);
+                used += 1000;
+                readings.add(used);
+            }
+        }
+
+        @Override
+        public long getAsLong() {
+            return readings.get(next++);
+        }
+    }
+
+    /** Validator that retains a known amount of heap. */
+    private static final class SizedValidator implements JsonValidator {
+
+        private final byte[] state;
+
+        SizedValidator(final int size) {
+            this.state = new byte[size];
+        }
+
+        @Override
+        public void validate(final String json) {
+            state[0]++;
+        }
+
+        @Override
+        public byte[] serialize(final TestModel model, final boolean validate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TestModel deserialize(final byte[] data) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
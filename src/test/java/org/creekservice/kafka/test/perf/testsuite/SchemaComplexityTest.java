@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.testsuite;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.implementations.NetworkNtImplementation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class SchemaComplexityTest {
+
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("cases")
+    void shouldGenerateDocumentValidAgainstSchema(
+            final SchemaComplexity dimension, final SchemaSpec spec, final int complexity) {
+        // Given:
+        final JsonValidator validator = validator(dimension, spec, complexity);
+
+        // When:
+        validator.validate(dimension.document(complexity));
+
+        // Then: did not throw.
+    }
+
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("cases")
+    void shouldGenerateSchemaThatRejectsInvalid(
+            final SchemaComplexity dimension, final SchemaSpec spec, final int complexity) {
+        // Given:
+        final JsonValidator validator = validator(dimension, spec, complexity);
+
+        // Then:
+        assertThrows(RuntimeException.class, () -> validator.validate("{\"value\":10}"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SchemaComplexity.class)
+    void shouldThrowOnInvalidComplexity(final SchemaComplexity dimension) {
+        assertThrows(
+                IllegalArgumentException.class, () -> dimension.schema(SchemaSpec.DRAFT_07, 0));
+    }
+
+    private static JsonValidator validator(
+            final SchemaComplexity dimension, final SchemaSpec spec, final int complexity) {
+        return new NetworkNtImplementation()
+                .prepare(
+                        dimension.schema(spec, complexity),
+                        spec,
+                        new AdditionalSchemas(Map.of(), Path.of("")),
+                        false);
+    }
+
+    private static Stream<Object[]> cases() {
+        final List<Object[]> cases = new ArrayList<>();
+        for (final SchemaComplexity dimension : SchemaComplexity.values()) {
+            for (final SchemaSpec spec : List.of(SchemaSpec.DRAFT_07, SchemaSpec.DRAFT_2020_12)) {
+                for (final int complexity : new int[] {1, 2, 16}) {
+                    cases.add(new Object[] {dimension, spec, complexity});
+                }
+            }
+        }
+        return cases.stream();
+    }
+}
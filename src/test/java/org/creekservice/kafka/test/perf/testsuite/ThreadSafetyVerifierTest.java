@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.testsuite;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.implementations.Implementation.JsonValidator;
+import org.creekservice.kafka.test.perf.model.TestModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ThreadSafetyVerifierTest {
+
+    private static final Path SUITE_PATH = Paths.get("draft7/test.json");
+
+    @Mock(strictness = LENIENT)
+    private Implementation impl;
+
+    private ThreadSafetyVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        final List<TestCase> tests =
+                List.of(
+                        new TestCase("a", IntNode.valueOf(1), true, Optional.empty(), SUITE_PATH),
+                        new TestCase("b", IntNode.valueOf(2), true, Optional.empty(), SUITE_PATH));
+
+        final TestSuite suite =
+                new TestSuite(
+                        "suite",
+                        JsonNodeFactory.instance.objectNode(),
+                        tests,
+                        Optional.empty(),
+                        SUITE_PATH);
+
+        final JsonSchemaTestSuite testSuite =
+                new JsonSchemaTestSuite(
+                        List.of(new SpecTestSuites(SchemaSpec.DRAFT_07, List.of(suite))),
+                        Map.of(),
+                        Paths.get(""));
+
+        verifier = new ThreadSafetyVerifier(testSuite, 4, 3);
+
+        when(impl.supports(any())).thenReturn(true);
+    }
+
+    @Test
+    void shouldPassThreadSafeValidator() {
+        // Given:
+        when(impl.prepare(anyString(), any(), any(), anyBoolean()))
+                .thenReturn(new TestValidator(null));
+
+        // When:
+        final ThreadSafetyVerifier.Outcome outcome = verifier.verify(impl);
+
+        // Then:
+        assertThat(outcome, is(ThreadSafetyVerifier.Outcome.PASSED));
+    }
+
+    @Test
+    void shouldFailValidatorThatBehavesDifferentlyOnOtherThreads() {
+        // Given:
+        when(impl.prepare(anyString(), any(), any(), anyBoolean()))
+                .thenReturn(new TestValidator(Thread.currentThread()));
+
+        // When:
+        final ThreadSafetyVerifier.Outcome outcome = verifier.verify(impl);
+
+        // Then:
+        assertThat(outcome, is(ThreadSafetyVerifier.Outcome.FAILED));
+    }
+
+    @Test
+    void shouldThrowOnTooFewThreads() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new ThreadSafetyVerifier(
+                                new JsonSchemaTestSuite(List.of(), Map.of(), Paths.get("")),
+                                1,
+                                1));
+    }
+
+    /** Validator that only works on its owning thread, if it has one. */
+    private static final class TestValidator implements JsonValidator {
+
+        private final Thread owner;
+
+        TestValidator(final Thread owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void validate(final String json) {
+            if (owner != null && Thread.currentThread() != owner) {
+                throw new IllegalStateException("Wrong thread");
+            }
+        }
+
+        @Override
+        public byte[] serialize(final TestModel model, final boolean validate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TestModel deserialize(final byte[] data) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
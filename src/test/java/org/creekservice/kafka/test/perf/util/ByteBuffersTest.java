@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-2025 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.kafka.test.perf.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class ByteBuffersTest {
+
+    private static final byte[] DATA = "{\"a\":1}".getBytes(UTF_8);
+
+    private final ObjectMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldCopyRemainingBytes() {
+        // Given:
+        final ByteBuffer buffer = ByteBuffer.wrap(DATA);
+        buffer.position(2);
+
+        // When:
+        final byte[] result = ByteBuffers.toBytes(buffer);
+
+        // Then:
+        assertThat(new String(result, UTF_8), is("a\":1}"));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    void shouldStreamRemainingBytes() throws Exception {
+        // Given:
+        final ByteBuffer buffer = direct(DATA);
+        buffer.position(1);
+
+        // When:
+        final byte[] result;
+        try (InputStream stream = ByteBuffers.asInputStream(buffer)) {
+            result = stream.readAllBytes();
+        }
+
+        // Then:
+        assertThat(new String(result, UTF_8), is("\"a\":1}"));
+        assertThat(buffer.position(), is(1));
+    }
+
+    @Test
+    void shouldParseHeapBufferSlice() throws Exception {
+        // Given:
+        final ByteBuffer buffer = ByteBuffer.wrap(("xx" + new String(DATA, UTF_8)).getBytes(UTF_8));
+        buffer.position(2);
+
+        // When:
+        final JsonNode result;
+        try (JsonParser parser = ByteBuffers.createParser(mapper, buffer.slice())) {
+            result = mapper.readTree(parser);
+        }
+
+        // Then:
+        assertThat(result.get("a").asInt(), is(1));
+    }
+
+    @Test
+    void shouldParseDirectBuffer() throws Exception {
+        // Given:
+        final ByteBuffer buffer = direct(DATA);
+
+        // When:
+        final JsonNode result;
+        try (JsonParser parser = ByteBuffers.createParser(mapper, buffer)) {
+            result = mapper.readTree(parser);
+        }
+
+        // Then:
+        assertThat(result.get("a").asInt(), is(1));
+        assertThat(buffer.position(), is(0));
+    }
+
+    private static ByteBuffer direct(final byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+}
@@ -21,13 +21,18 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.matchesPattern;
 import static org.hamcrest.Matchers.not;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.awt.Color;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.creekservice.kafka.test.perf.implementations.Implementation;
+import org.creekservice.kafka.test.perf.testsuite.RetainedHeapMeter;
 import org.creekservice.kafka.test.perf.testsuite.SchemaSpec;
+import org.creekservice.kafka.test.perf.testsuite.ThreadSafetyVerifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,7 +52,8 @@ class ImplsJsonFormatterTest {
                     "http://a",
                     Color.BLACK,
                     Test.class,
-                    Implementation.MetaData.ACTIVE_PROJECT);
+                    Implementation.MetaData.ACTIVE_PROJECT,
+                    Implementation.ThreadSafety.THREAD_SAFE);
 
     private static final Implementation.MetaData MD_B =
             new Implementation.MetaData(
@@ -59,7 +65,8 @@ class ImplsJsonFormatterTest {
                     "http://b",
                     Color.BLUE,
                     Test.class,
-                    "No release since dot");
+                    "No release since dot",
+                    Implementation.ThreadSafety.UNDOCUMENTED);
 
     @Mock(strictness = LENIENT)
     private Implementation implA;
@@ -149,4 +156,85 @@ class ImplsJsonFormatterTest {
         // Then:
         assertThat(json, matchesPattern(".*\"minJavaVersion\":\"Java \\d+\".*"));
     }
+
+    @Test
+    void shouldIncludeThreadSafety() {
+        // When:
+        final String json = ImplsJsonFormatter.implDetailsAsJson(List.of(implA));
+
+        // Then:
+        assertThat(json, containsString("\"threadSafety\":\"Thread safe\""));
+    }
+
+    @Test
+    void shouldNotIncludeThreadSafetyVerifiedIfNotVerified() {
+        // When:
+        final String json = ImplsJsonFormatter.implDetailsAsJson(List.of(implA));
+
+        // Then:
+        assertThat(json, not(containsString("\"threadSafetyVerified\":")));
+    }
+
+    @Test
+    void shouldIncludeThreadSafetyVerified() {
+        // When:
+        final String json =
+                ImplsJsonFormatter.implDetailsAsJson(
+                        List.of(implA, implB),
+                        Map.of(implB, ThreadSafetyVerifier.Outcome.FAILED),
+                        Map.of());
+
+        // Then:
+        assertThat(json, containsString("\"threadSafetyVerified\":\"Failed\""));
+        assertThat(json, not(containsString("\"threadSafetyVerified\":\"Passed\"")));
+    }
+
+    @Test
+    void shouldNotIncludeRetainedHeapIfNotMeasured() {
+        // When:
+        final String json = ImplsJsonFormatter.implDetailsAsJson(List.of(implA));
+
+        // Then:
+        assertThat(json, not(containsString("\"retainedHeap\":")));
+    }
+
+    @Test
+    void shouldIncludeRetainedHeap() {
+        // Given:
+        final RetainedHeapMeter.Footprint testSchemas = mock(RetainedHeapMeter.Footprint.class);
+        when(testSchemas.bytesPerValidator()).thenReturn(2048L);
+        final RetainedHeapMeter.Footprint testSuite = mock(RetainedHeapMeter.Footprint.class);
+        when(testSuite.bytesPerValidator()).thenReturn(512L);
+        final RetainedHeapMeter.Measurement measurement =
+                mock(RetainedHeapMeter.Measurement.class);
+        when(measurement.testSchemas()).thenReturn(Optional.of(testSchemas));
+        when(measurement.testSuite()).thenReturn(Optional.of(testSuite));
+
+        // When:
+        final String json =
+                ImplsJsonFormatter.implDetailsAsJson(
+                        List.of(implA, implB), Map.of(), Map.of(implB, measurement));
+
+        // Then:
+        assertThat(json, containsString("\"retainedHeap\":2048"));
+        assertThat(json, containsString("\"testSuiteRetainedHeap\":512"));
+    }
+
+    @Test
+    void shouldNotIncludeRetainedHeapIfNotReliablyMeasured() {
+        // Given:
+        final RetainedHeapMeter.Measurement measurement =
+                mock(RetainedHeapMeter.Measurement.class);
+        when(measurement.testSchemas()).thenReturn(Optional.empty());
+        when(measurement.testSuite()).thenReturn(Optional.empty());
+
+        // When:
+        final String json =
+                ImplsJsonFormatter.implDetailsAsJson(
+                        List.of(implA), Map.of(), Map.of(implA, measurement));
+
+        // Then:
+        assertThat(json, not(containsString("RetainedHeap\":")));
+        assertThat(json, not(containsString("\"retainedHeap\":")));
+    }
 }